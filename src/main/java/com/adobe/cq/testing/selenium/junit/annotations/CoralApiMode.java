@@ -0,0 +1,38 @@
+/*
+ * Copyright 2021 Adobe Systems Incorporated
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.adobe.cq.testing.selenium.junit.annotations;
+
+import com.adobe.cq.testing.selenium.junit.extensions.CoralApiModeExtension;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.*;
+
+/**
+ * {@code @CoralApiMode} switches the Coral widgets of a test class or method to the Coral API mode, see
+ * {@link com.adobe.cq.testing.selenium.pagewidgets.coral.CoralApi}.
+ * <p>
+ * A method annotation overrides the class one, i.e {@code @CoralApiMode(false)} keeps the clicks in a test of an
+ * annotated class.
+ */
+
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(CoralApiModeExtension.class)
+@Inherited
+public @interface CoralApiMode {
+    boolean value() default true;
+}
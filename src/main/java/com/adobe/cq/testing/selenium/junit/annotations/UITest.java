@@ -18,6 +18,7 @@ package com.adobe.cq.testing.selenium.junit.annotations;
 
 import com.adobe.cq.testing.selenium.junit.extensions.JSCoverageExtension;
 import com.adobe.cq.testing.selenium.junit.extensions.UITestExtension;
+import com.adobe.cq.testing.selenium.junit.extensions.WaitTelemetryExtension;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.lang.annotation.*;
@@ -27,12 +28,14 @@ import java.lang.annotation.*;
  * <p>
  * It mainly allow to resolve URI parameters in Tests. URI which are retrieved from latest SlingClientContext.
  * It also watch for failure and output browser console logs to the junit log output.
+ * The time spent in waits is reported per test and for the suite, see {@link WaitTelemetryExtension}.
  */
 
 @Target(ElementType.TYPE)
 @Retention(RetentionPolicy.RUNTIME)
 @ExtendWith(UITestExtension.class)
 @ExtendWith(JSCoverageExtension.class)
+@ExtendWith(WaitTelemetryExtension.class)
 @Inherited
 public @interface UITest {
 }
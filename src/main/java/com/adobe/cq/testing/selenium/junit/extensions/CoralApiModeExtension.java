@@ -0,0 +1,46 @@
+/*
+ * Copyright 2021 Adobe Systems Incorporated
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.adobe.cq.testing.selenium.junit.extensions;
+
+import com.adobe.cq.testing.selenium.junit.annotations.CoralApiMode;
+import com.adobe.cq.testing.selenium.pagewidgets.coral.CoralApi;
+import com.adobe.cq.testing.selenium.utils.AnnotationHelper;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.util.AnnotationUtils;
+
+/**
+ * JUnit extension setting the {@link CoralApi} mode of the test thread from {@link CoralApiMode}.
+ */
+public final class CoralApiModeExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(final ExtensionContext context) {
+        final CoralApiMode mode = context.getTestMethod()
+                .flatMap(method -> AnnotationUtils.findAnnotation(method, CoralApiMode.class))
+                .orElseGet(() -> AnnotationHelper.findOptionalAnnotation(context, CoralApiMode.class).orElse(null));
+        if (mode != null) {
+            CoralApi.setEnabled(mode.value());
+        }
+    }
+
+    @Override
+    public void afterEach(final ExtensionContext context) {
+        CoralApi.reset();
+    }
+}
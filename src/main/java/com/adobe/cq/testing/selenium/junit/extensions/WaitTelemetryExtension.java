@@ -0,0 +1,126 @@
+/*
+ * Copyright 2021 Adobe Systems Incorporated
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.adobe.cq.testing.selenium.junit.extensions;
+
+import com.adobe.cq.testing.selenium.utils.WaitTelemetry;
+import com.codeborne.selenide.Configuration;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * JUnit extension writing the waits recorded by {@link WaitTelemetry} in a JSON report per test, and the slowest
+ * waits of the suite in a summary once all tests are executed.
+ * <p>
+ * Reports are written in the wait-telemetry folder of the Selenide reports folder, the summary size is set by the
+ * waitTelemetryTopN system property.
+ */
+public final class WaitTelemetryExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WaitTelemetryExtension.class);
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(WaitTelemetryExtension.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final int TOP_N = Integer.parseInt(System.getProperty("waitTelemetryTopN", "10"));
+    private static final String REPORT_FOLDER = "wait-telemetry";
+    private static final String SUMMARY_FILE = "summary.json";
+
+    @Override
+    public void beforeEach(final ExtensionContext context) {
+        WaitTelemetry.reset();
+        WaitTelemetry.setEnabled(true);
+    }
+
+    @Override
+    public void afterEach(final ExtensionContext context) {
+        final List<WaitTelemetry.Stats> stats = WaitTelemetry.getStats();
+        WaitTelemetry.setEnabled(false);
+        WaitTelemetry.reset();
+        final String testName = context.getRequiredTestClass().getSimpleName() + "." + context.getRequiredTestMethod().getName();
+
+        final Map<String, Object> report = new LinkedHashMap<>();
+        report.put("test", context.getUniqueId());
+        report.put("totalTime", stats.stream().mapToLong(WaitTelemetry.Stats::getTotalTime).sum());
+        report.put("waits", stats);
+        write(testName.replaceAll("[^\\w.-]", "_") + ".json", report);
+
+        context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(Summary.class, k -> new Summary(), Summary.class)
+                .add(testName, stats);
+    }
+
+    private static void write(final String fileName, final Object report) {
+        final File folder = new File(Configuration.reportsFolder, REPORT_FOLDER);
+        try {
+            if (!folder.isDirectory() && !folder.mkdirs()) {
+                throw new IOException("Cannot create " + folder);
+            }
+            MAPPER.writeValue(new File(folder, fileName), report);
+        } catch (IOException e) {
+            LOG.warn("Cannot write wait telemetry report {} due to {}", fileName, e.getMessage());
+        }
+    }
+
+    /**
+     * Slowest waits of the suite, reported when the root context is closed.
+     */
+    private static final class Summary implements ExtensionContext.Store.CloseableResource {
+
+        private final List<Map<String, Object>> waits = new ArrayList<>();
+
+        private synchronized void add(final String testName, final List<WaitTelemetry.Stats> stats) {
+            stats.forEach(s -> {
+                final Map<String, Object> wait = new LinkedHashMap<>();
+                wait.put("test", testName);
+                wait.put("type", s.getType());
+                wait.put("target", s.getTarget());
+                wait.put("callSite", s.getCallSite());
+                wait.put("calls", s.getCalls());
+                wait.put("totalTime", s.getTotalTime());
+                wait.put("maxTime", s.getMaxTime());
+                wait.put("polls", s.getPolls());
+                wait.put("retries", s.getRetries());
+                waits.add(wait);
+            });
+        }
+
+        @Override
+        public synchronized void close() {
+            final List<Map<String, Object>> slowest = waits.stream()
+                    .sorted(Comparator.comparingLong((Map<String, Object> w) -> (Long) w.get("totalTime")).reversed())
+                    .limit(TOP_N)
+                    .collect(Collectors.toList());
+            LOG.info("Top {} slowest waits:", slowest.size());
+            slowest.forEach(w -> LOG.info("{}ms {} ({} calls, {} polls, {} retries) on {} at {} in {}", w.get("totalTime"),
+                    w.get("type"), w.get("calls"), w.get("polls"), w.get("retries"), w.get("target"), w.get("callSite"),
+                    w.get("test")));
+            write(SUMMARY_FILE, slowest);
+        }
+    }
+}
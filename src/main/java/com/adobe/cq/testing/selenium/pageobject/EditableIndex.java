@@ -0,0 +1,200 @@
+/*
+ * Copyright 2021 Adobe Systems Incorporated
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.adobe.cq.testing.selenium.pageobject;
+
+import com.adobe.cq.testing.selenium.utils.BrowserRuntime;
+import com.codeborne.selenide.SelenideElement;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.codeborne.selenide.Selenide.$;
+
+/**
+ * Immutable index of the editables of an {@link EditorPage}, read from {@code Granite.author.editables} in a single
+ * call.
+ * <p>
+ * The index is a snapshot: it is rebuilt by {@link EditorPage#getEditableIndex()} once the editor reloaded or moved
+ * its editables.
+ */
+public final class EditableIndex {
+
+    private final String version;
+    private final Map<String, Entry> entries;
+
+    private EditableIndex(final String version, final Map<String, Entry> entries) {
+        this.version = version;
+        this.entries = Collections.unmodifiableMap(entries);
+    }
+
+    static EditableIndex fromRuntime(final Map<String, Object> result) {
+        final Map<String, Entry> entries = new LinkedHashMap<>();
+        for (Object editable : BrowserRuntime.asList(result.get("editables"))) {
+            final Entry entry = new Entry(BrowserRuntime.asMap(editable));
+            entries.put(entry.getPath(), entry);
+        }
+        return new EditableIndex((String) result.get("version"), entries);
+    }
+
+    String getVersion() {
+        return version;
+    }
+
+    /**
+     * @param path path of the component resource.
+     * @return the indexed editable, null if the path is not an editable.
+     */
+    public Entry get(final String path) {
+        return entries.get(path);
+    }
+
+    /**
+     * @param path path of the component resource.
+     * @return true if the path is an editable.
+     */
+    public boolean contains(final String path) {
+        return entries.containsKey(path);
+    }
+
+    /**
+     * @param path path of the component resource.
+     * @return the editable children of the editable, empty if the path is not an editable.
+     */
+    public List<Entry> getChildren(final String path) {
+        final Entry entry = entries.get(path);
+        if (entry == null) {
+            return Collections.emptyList();
+        }
+        final List<Entry> children = new ArrayList<>();
+        entry.getChildPaths().forEach(childPath -> children.add(entries.get(childPath)));
+        return children;
+    }
+
+    /**
+     * @return all the editables, in the editor order.
+     */
+    public Collection<Entry> getEntries() {
+        return entries.values();
+    }
+
+    /**
+     * @param overlayType type of the overlays, i.e {@code Editable} or {@code Inspectable}.
+     * @return the overlays of this type as found when indexing, in the editor order.
+     */
+    List<WebElement> getOverlays(final String overlayType) {
+        final List<WebElement> overlays = new ArrayList<>();
+        for (Entry entry : entries.values()) {
+            if (entry.overlay != null && overlayType.equals(entry.overlayType)) {
+                overlays.add(entry.overlay);
+            }
+        }
+        return overlays;
+    }
+
+    /**
+     * @return the number of editables.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * An indexed editable.
+     */
+    public static final class Entry {
+
+        private final String path;
+        private final String resourceType;
+        private final String parentPath;
+        private final List<String> childPaths;
+        private final String overlayType;
+        private final WebElement overlay;
+        private final Rectangle rect;
+
+        private Entry(final Map<String, Object> editable) {
+            path = (String) editable.get("path");
+            resourceType = (String) editable.get("resourceType");
+            parentPath = (String) editable.get("parentPath");
+            final List<String> paths = new ArrayList<>();
+            BrowserRuntime.asList(editable.get("childPaths")).forEach(childPath -> paths.add((String) childPath));
+            childPaths = Collections.unmodifiableList(paths);
+            overlayType = (String) editable.get("overlayType");
+            overlay = (WebElement) editable.get("overlay");
+            rect = BrowserRuntime.asRectangle(editable.get("rect"));
+        }
+
+        /**
+         * @return path of the component resource.
+         */
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * @return resource type of the component.
+         */
+        public String getResourceType() {
+            return resourceType;
+        }
+
+        /**
+         * @return path of the parent resource.
+         */
+        public String getParentPath() {
+            return parentPath;
+        }
+
+        /**
+         * @return paths of the editable children, in the editor order.
+         */
+        public List<String> getChildPaths() {
+            return childPaths;
+        }
+
+        /**
+         * @return type of the overlay, i.e {@code Editable} or {@code Inspectable}, null without overlay.
+         */
+        public String getOverlayType() {
+            return overlayType;
+        }
+
+        /**
+         * @return bounding rectangle of the overlay in the viewport when indexed, null without overlay.
+         */
+        public Rectangle getRect() {
+            return rect;
+        }
+
+        /**
+         * @return the overlay as found when indexing, null without overlay.
+         */
+        public SelenideElement getOverlay() {
+            return overlay == null ? null : $(overlay);
+        }
+
+        @Override
+        public String toString() {
+            return "Editable " + path + " (" + resourceType + ")";
+        }
+    }
+}
@@ -17,18 +17,37 @@
 
 package com.adobe.cq.testing.selenium.pageobject;
 
+import com.adobe.cq.testing.client.CQClient;
 import com.adobe.cq.testing.selenium.pageobject.granite.BasePage;
+import com.adobe.cq.testing.selenium.pagewidgets.ReadyCondition;
 import com.adobe.cq.testing.selenium.pagewidgets.common.ActionComponent;
 import com.adobe.cq.testing.selenium.pagewidgets.coral.CoralActionBar;
 import com.adobe.cq.testing.selenium.pagewidgets.cq.*;
+import com.adobe.cq.testing.selenium.utils.BrowserCondition;
+import com.adobe.cq.testing.selenium.utils.BrowserRuntime;
+import com.adobe.cq.testing.selenium.utils.DomSnapshot;
+import com.adobe.cq.testing.selenium.utils.WaitTelemetry;
 import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.Driver;
 import com.codeborne.selenide.ElementsCollection;
-import com.codeborne.selenide.Selenide;
 import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.WebDriverRunner;
+import com.codeborne.selenide.impl.WebElementsCollection;
+import org.apache.http.HttpStatus;
+import org.apache.sling.testing.clients.ClientException;
+import org.apache.sling.testing.clients.util.FormEntityBuilder;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeoutException;
 
 import static com.adobe.cq.testing.selenium.Constants.DEFAULT_CLICK_UNTIL_RETRIES;
@@ -47,17 +66,17 @@ public abstract class EditorPage extends BasePage {
     private static final String OVERLAY_WRAPPER = "#OverlayWrapper";
     private static final String CONTENT_WRAPPER = "#ContentWrapper";
     private static final String CONTENT_FRAME = "#ContentFrame";
-    private static final String EDITABLE = "[data-type='Editable']";
+    private static final String EDITABLE_TYPE = "Editable";
+    private static final String EDITABLE = "[data-type='" + EDITABLE_TYPE + "']";
     private static final String COMPONENT_OVERLAY = EDITABLE + "[data-path='%s']";
-    private static final String INSPECTABLE = "[data-type='Inspectable']";
+    private static final String INSPECTABLE_TYPE = "Inspectable";
+    private static final String INSPECTABLE = "[data-type='" + INSPECTABLE_TYPE + "']";
     private static final String INSPECTABLE_COMPONENT_OVERLAY = INSPECTABLE + "[data-path='%s']";
-
-    // JS script to be executed on browser to make sure all Coral components below coral-shell are initialized
-    private static final String JS_EDITOR_READY_CONDITION = "window && window.Granite && window.Granite.author && true";
-    private static final String JS_EDITOR_READY_SCRIPT = "if (%s) {%n"
-            + "var ns = window.Granite.author;%n"
-            + "return ns.pageInfo && ns.pageInfo !== null;%n"
-            + "}%n" + "return false";
+    private static final boolean EDITABLE_TOOLBAR_FAST_PATH =
+            Boolean.parseBoolean(System.getProperty("editableToolbarFastPath", "false"));
+    private static final boolean LAYER_CLICK_PATH =
+            Boolean.parseBoolean(System.getProperty("editorLayerClickPath", "false"));
+    private static final int AUTHOR_API_TIMEOUT = 5000;
 
     private PageInfo pageInfo = new PageInfo();
 
@@ -82,6 +101,8 @@ public abstract class EditorPage extends BasePage {
 
     private String pageName;
 
+    private EditableIndex editableIndex;
+
     public EditorPage(final URI base, final String pagePath) {
         super(base, getEditedPagePath(pagePath));
     }
@@ -160,6 +181,41 @@ public abstract class EditorPage extends BasePage {
         return textComponents;
     }
 
+    /**
+     * Activate an editor layer through the Granite author layer manager, or through the layer switcher when the
+     * editorLayerClickPath system property is true or the layer manager is unavailable.
+     * @param layer name of the layer, as in the data-layer attribute of its buttons
+     * @param targetingModeButton the layer button of the layer switcher
+     * @param targetingLayerButton the global bar button shown once the layer is active
+     * @param <T> type of {@link EditorPage}
+     * @return Instance of current {@link EditorPage}
+     * @throws TimeoutException if the layer switcher could not be used
+     */
+    protected <T extends EditorPage> T enterLayer(final String layer, final SelenideElement targetingModeButton,
+                                                  final SelenideElement targetingLayerButton) throws TimeoutException {
+        if (!LAYER_CLICK_PATH && activateLayer(layer)) {
+            targetingLayerButton.shouldBe(Condition.visible);
+            return (T) this;
+        }
+        return enterMode(targetingModeButton, targetingLayerButton);
+    }
+
+    private boolean activateLayer(final String layer) {
+        final long start = System.currentTimeMillis();
+        try {
+            final Map<String, Object> result = BrowserRuntime.callAsync("activateLayer", layer, AUTHOR_API_TIMEOUT);
+            WaitTelemetry.record("layerActivation", layer, System.currentTimeMillis() - start, 1, 0);
+            if (!Boolean.TRUE.equals(result.get("activated"))) {
+                LOG.debug("Layer {} not activated with the layer manager: {}", layer, result.get("reason"));
+                return false;
+            }
+            return true;
+        } catch (WebDriverException e) {
+            LOG.debug("Cannot activate layer {} with the layer manager: {}", layer, e.getMessage());
+            return false;
+        }
+    }
+
     protected <T extends EditorPage> T enterMode(final SelenideElement targetingModeButton, final SelenideElement targetingLayerButton) throws TimeoutException {
         selectModeButton.shouldBe(Condition.visible);
         clickUntil(selectModeButton, targetingModeButton, Condition.visible, DEFAULT_CLICK_UNTIL_RETRIES, 1);
@@ -184,30 +240,109 @@ public abstract class EditorPage extends BasePage {
      */
     public boolean isInPreviewMode() {
         return hasWithPolling(previewButton, Condition.visible) &&
-                hasWithPolling(previewButton, Condition.cssClass("is-selected")) &&
+                hasWithPolling(previewButton, BrowserCondition.cssClass("is-selected")) &&
                 hasWithPolling(getOverlayWrapper(), Condition.hidden) &&
-                hasWithPolling(getOverlayWrapper(), Condition.cssClass("is-hidden"));
+                hasWithPolling(getOverlayWrapper(), BrowserCondition.cssClass("is-hidden"));
     }
 
     /**
-     * Opens the editor tool bar for a resource
+     * Opens the editor tool bar for a resource.
+     * The overlay of the editable is clicked, or the editable is selected through the Granite author API when the
+     * editableToolbarFastPath system property is true, falling back to the click when the API is unavailable or the
+     * toolbar did not open.
      * @param resourcePath path of the resource
      * @return {@link EditableToolbar} instance
      * @throws TimeoutException if component is not visible before Timeout
      */
     public EditableToolbar openEditableToolbar(final String resourcePath) throws TimeoutException {
+        if (EDITABLE_TOOLBAR_FAST_PATH && openEditableToolbarWithAuthorApi(resourcePath)) {
+            return editableToolbar;
+        }
         SelenideElement targetActionBar = getComponentOverlay(resourcePath);
         clickUntil(targetActionBar, editableToolbar.element(), Condition.visible, DEFAULT_CLICK_UNTIL_RETRIES, 1);
         return editableToolbar;
     }
 
+    private boolean openEditableToolbarWithAuthorApi(final String resourcePath) {
+        try {
+            if (!Boolean.TRUE.equals(BrowserRuntime.call("openEditableToolbar", resourcePath))) {
+                LOG.debug("Author API unavailable to open the toolbar of {}", resourcePath);
+                return false;
+            }
+        } catch (WebDriverException e) {
+            LOG.debug("Cannot open the toolbar of {} with the author API: {}", resourcePath, e.getMessage());
+            return false;
+        }
+        return hasWithPolling(editableToolbar.element(), Condition.visible, AUTHOR_API_TIMEOUT);
+    }
+
+    /**
+     * Insert a component as last child of a parent resource with a Sling POST, then refresh the parent editable in
+     * the editor instead of reloading the page. Use the {@link InsertComponentDialog} to test the insertion itself.
+     * @param client client used to create the component resource
+     * @param parentPath path of the parent resource, i.e a layout container
+     * @param resourceType resource type of the component
+     * @param properties properties of the component resource
+     * @return path of the inserted component
+     * @throws ClientException if the component resource could not be created
+     */
+    public String insertComponent(final CQClient client, final String parentPath, final String resourceType,
+                                  final Map<String, String> properties) throws ClientException {
+        final String name = resourceType.substring(resourceType.lastIndexOf('/') + 1) + "_"
+                + Long.toHexString(System.nanoTime());
+        final String path = parentPath + "/" + name;
+        final FormEntityBuilder form = FormEntityBuilder.create()
+                .addParameter("jcr:primaryType", "nt:unstructured")
+                .addParameter("sling:resourceType", resourceType)
+                .addParameter(":order", "last");
+        properties.forEach(form::addParameter);
+        client.doPost(path, form.build(), HttpStatus.SC_OK, HttpStatus.SC_CREATED);
+        if (!refreshEditable(parentPath, path)) {
+            LOG.info("Cannot refresh the editable {}, reloading the page", parentPath);
+            refresh();
+            waitReady();
+        }
+        return path;
+    }
+
+    /**
+     * Insert a component without properties, see {@link #insertComponent(CQClient, String, String, Map)}.
+     * @param client client used to create the component resource
+     * @param parentPath path of the parent resource, i.e a layout container
+     * @param resourceType resource type of the component
+     * @return path of the inserted component
+     * @throws ClientException if the component resource could not be created
+     */
+    public String insertComponent(final CQClient client, final String parentPath, final String resourceType)
+            throws ClientException {
+        return insertComponent(client, parentPath, resourceType, Collections.emptyMap());
+    }
+
+    private boolean refreshEditable(final String parentPath, final String childPath) {
+        final long start = System.currentTimeMillis();
+        try {
+            final Map<String, Object> result = BrowserRuntime.callAsync("refreshEditable", parentPath, childPath,
+                    Configuration.timeout);
+            WaitTelemetry.record("editableRefresh", parentPath, System.currentTimeMillis() - start, 1, 0);
+            if (!Boolean.TRUE.equals(result.get("refreshed"))) {
+                LOG.debug("Editable {} not refreshed: {}", parentPath, result.get("reason"));
+                return false;
+            }
+            return true;
+        } catch (WebDriverException e) {
+            LOG.debug("Cannot refresh editable {}: {}", parentPath, e.getMessage());
+            return false;
+        }
+    }
+
     /**
      * Provides the {@link SelenideElement} object for the overlay of  editable component on editor page.
+     * The overlay is looked up by its path, and only waited for when not in the {@link EditableIndex}.
      * @param resourcePath path of the component resource
      * @return {@link SelenideElement} object for overlay
      */
     public SelenideElement getComponentOverlay(final String resourcePath) {
-        return $(getComponentOverlaySelector(resourcePath)).should(Condition.exist);
+        return getOverlay(resourcePath, EDITABLE_TYPE, getComponentOverlaySelector(resourcePath));
     }
 
     private String getComponentOverlaySelector(final String resourcePath) {
@@ -216,11 +351,28 @@ public abstract class EditorPage extends BasePage {
 
     /**
      * Provides the {@link SelenideElement} object for the overlay of  Inspectable component on editor page.
+     * The overlay is looked up by its path, and only waited for when not in the {@link EditableIndex}.
      * @param resourcePath path of the component resource
      * @return {@link SelenideElement} object for overlay
      */
     public SelenideElement getInspectableComponentOverlay(final String resourcePath) {
-        return $(String.format(INSPECTABLE_COMPONENT_OVERLAY, resourcePath)).should(Condition.exist);
+        return getOverlay(resourcePath, INSPECTABLE_TYPE, String.format(INSPECTABLE_COMPONENT_OVERLAY, resourcePath));
+    }
+
+    // The overlay is always looked up by its selector, so that it doesn't go stale when the editor redraws the overlays.
+    private SelenideElement getOverlay(final String resourcePath, final String overlayType, final String selector) {
+        final SelenideElement overlay = $(selector);
+        return isIndexed(resourcePath, overlayType) ? overlay : overlay.should(Condition.exist);
+    }
+
+    private boolean isIndexed(final String resourcePath, final String overlayType) {
+        try {
+            final EditableIndex.Entry entry = getEditableIndex().get(resourcePath);
+            return entry != null && overlayType.equals(entry.getOverlayType());
+        } catch (WebDriverException e) {
+            LOG.debug("Cannot index the editables to find {}: {}", resourcePath, e.getMessage());
+            return false;
+        }
     }
 
     /**
@@ -233,17 +385,52 @@ public abstract class EditorPage extends BasePage {
     }
 
     /**
+     * The collection reads the overlays from the {@link EditableIndex} each time it is evaluated, and looks them up
+     * by selector when none is indexed.
      * @return collections of all the editable components
      */
     public ElementsCollection getEditables() {
-        return $$(EDITABLE);
+        return new ElementsCollection(new IndexedOverlays(EDITABLE_TYPE, EDITABLE));
     }
 
     /**
+     * The collection reads the overlays from the {@link EditableIndex} each time it is evaluated, and looks them up
+     * by selector when none is indexed.
      * @return collections of all the inspectable components
      */
     public ElementsCollection getInspectables() {
-        return $$(INSPECTABLE);
+        return new ElementsCollection(new IndexedOverlays(INSPECTABLE_TYPE, INSPECTABLE));
+    }
+
+    /**
+     * Provides the index of the editable components, rebuilt when the editor reloaded or moved them since the last
+     * call.
+     * @return {@link EditableIndex} of the editables of the page
+     */
+    public EditableIndex getEditableIndex() {
+        final Map<String, Object> result = BrowserRuntime.call("editableIndex",
+                editableIndex == null ? null : editableIndex.getVersion());
+        if (result.containsKey("editables")) {
+            editableIndex = EditableIndex.fromRuntime(result);
+            LOG.debug("Indexed {} editables", editableIndex.size());
+        }
+        return editableIndex;
+    }
+
+    /**
+     * @param fields the fields to read on each editable, i.e {@code DomSnapshot.Field.data("path")}.
+     * @return snapshots of all the editable components, read in a single call.
+     */
+    public List<DomSnapshot> snapshotEditables(final DomSnapshot.Field... fields) {
+        return DomSnapshot.of(EDITABLE, fields);
+    }
+
+    /**
+     * @param fields the fields to read on each inspectable.
+     * @return snapshots of all the inspectable components, read in a single call.
+     */
+    public List<DomSnapshot> snapshotInspectables(final DomSnapshot.Field... fields) {
+        return DomSnapshot.of(INSPECTABLE, fields);
     }
 
     /**
@@ -254,20 +441,48 @@ public abstract class EditorPage extends BasePage {
         return actionBar;
     }
 
-    private boolean isReadyCondition() {
-        return Boolean.TRUE.equals(Selenide.executeJavaScript("return " + JS_EDITOR_READY_CONDITION));
+    @Override
+    protected List<ReadyCondition> getReadyConditions() {
+        return Arrays.asList(
+                ReadyCondition.documentComplete(),
+                ReadyCondition.graniteAuthorPageInfo(),
+                ReadyCondition.frameLoaded(CONTENT_FRAME));
     }
 
-    private boolean isPageReady() {
-        return Boolean.TRUE.equals(Selenide.executeJavaScript(String.format(JS_EDITOR_READY_SCRIPT, JS_EDITOR_READY_CONDITION)));
-    }
+    /**
+     * Overlays of one type, read from the editable index with a fallback on their selector.
+     */
+    private final class IndexedOverlays implements WebElementsCollection {
 
-    @Override
-    public void waitReady() {
-        LOG.info("waitPageReady");
-        Wait().until(webdriver -> isReadyCondition());
-        LOG.info("precondition checked");
-        Wait().until(webdriver -> isPageReady());
-        LOG.info("pageReady checked");
+        private final String overlayType;
+        private final String selector;
+
+        private IndexedOverlays(final String overlayType, final String selector) {
+            this.overlayType = overlayType;
+            this.selector = selector;
+        }
+
+        @Override
+        public List<WebElement> getElements() {
+            try {
+                final List<WebElement> overlays = getEditableIndex().getOverlays(overlayType);
+                if (!overlays.isEmpty()) {
+                    return overlays;
+                }
+            } catch (WebDriverException e) {
+                LOG.debug("Cannot index the editables: {}", e.getMessage());
+            }
+            return driver().getWebDriver().findElements(By.cssSelector(selector));
+        }
+
+        @Override
+        public String description() {
+            return selector;
+        }
+
+        @Override
+        public Driver driver() {
+            return WebDriverRunner.driver();
+        }
     }
 }
@@ -18,6 +18,7 @@
 package com.adobe.cq.testing.selenium.pageobject;
 
 import com.adobe.cq.testing.selenium.pagewidgets.cq.TimewarpDialog;
+import com.adobe.cq.testing.selenium.utils.BrowserCondition;
 import com.codeborne.selenide.Condition;
 import com.codeborne.selenide.SelenideElement;
 import org.slf4j.Logger;
@@ -79,7 +80,7 @@ public final class PageEditorPage extends EditorPage {
      * @throws TimeoutException if something wrong occurred
      */
     public PageEditorPage enterEditMode() throws TimeoutException {
-        return enterMode(editModeButton, editLayerButton);
+        return enterLayer("Edit", editModeButton, editLayerButton);
     }
 
     /**
@@ -88,7 +89,7 @@ public final class PageEditorPage extends EditorPage {
      * @throws TimeoutException if something wrong occurred
      */
     public PageEditorPage enterLayoutMode() throws TimeoutException {
-        return enterMode(layoutModeButton, layoutLayerButton);
+        return enterLayer("Layouting", layoutModeButton, layoutLayerButton);
     }
 
     /**
@@ -97,7 +98,7 @@ public final class PageEditorPage extends EditorPage {
      * @throws TimeoutException if something wrong occurred
      */
     public PageEditorPage enterDeveloperMode() throws TimeoutException {
-        return enterMode(developerModeButton, developerLayerButton);
+        return enterLayer("Developer", developerModeButton, developerLayerButton);
     }
 
     /**
@@ -106,7 +107,7 @@ public final class PageEditorPage extends EditorPage {
      * @throws TimeoutException if something wrong occurred
      */
     public PageEditorPage enterTimewarpMode() throws TimeoutException {
-        return enterMode(timewarpModeButton, timewarpLayerButton);
+        return enterLayer("Timewarp", timewarpModeButton, timewarpLayerButton);
     }
 
     /**
@@ -152,7 +153,7 @@ public final class PageEditorPage extends EditorPage {
     public boolean isInEditMode() {
         return hasWithPolling(editLayerButton, Condition.visible) &&
                 hasWithPolling(getOverlayWrapper(), Condition.visible) &&
-                !getOverlayWrapper().is(Condition.cssClass("is-hidden"));
+                hasWithPolling(getOverlayWrapper(), BrowserCondition.noCssClass("is-hidden"));
     }
 
     /**
@@ -162,7 +163,7 @@ public final class PageEditorPage extends EditorPage {
     public boolean isInLayoutMode() {
         return hasWithPolling(layoutLayerButton, Condition.visible) &&
                 hasWithPolling(getOverlayWrapper(), Condition.visible) &&
-                !getOverlayWrapper().is(Condition.cssClass("is-hidden"));
+                hasWithPolling(getOverlayWrapper(), BrowserCondition.noCssClass("is-hidden"));
     }
 
     /**
@@ -172,7 +173,7 @@ public final class PageEditorPage extends EditorPage {
     public boolean isInDeveloperMode() {
         return hasWithPolling(developerLayerButton, Condition.visible) &&
                 hasWithPolling(getOverlayWrapper(), Condition.visible) &&
-                !getOverlayWrapper().is(Condition.cssClass("is-hidden"));
+                hasWithPolling(getOverlayWrapper(), BrowserCondition.noCssClass("is-hidden"));
     }
 
     /**
@@ -182,7 +183,7 @@ public final class PageEditorPage extends EditorPage {
     public boolean isInTimewarpMode() {
         return hasWithPolling(timewarpLayerButton, Condition.visible) &&
                 hasWithPolling(getOverlayWrapper(), Condition.hidden) &&
-                getOverlayWrapper().is(Condition.cssClass("is-hidden"));
+                hasWithPolling(getOverlayWrapper(), BrowserCondition.cssClass("is-hidden"));
     }
 
 }
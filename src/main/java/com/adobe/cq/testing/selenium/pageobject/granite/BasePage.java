@@ -16,6 +16,8 @@
 
 package com.adobe.cq.testing.selenium.pageobject.granite;
 
+import com.adobe.cq.testing.selenium.pagewidgets.Helpers;
+import com.adobe.cq.testing.selenium.pagewidgets.ReadyCondition;
 import com.adobe.cq.testing.selenium.pagewidgets.coral.CoralToast;
 import com.codeborne.selenide.Condition;
 import com.codeborne.selenide.Selenide;
@@ -27,11 +29,9 @@ import org.apache.http.client.utils.URIBuilder;
 import javax.annotation.Nonnull;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Arrays;
 import java.util.List;
 
-import static com.adobe.cq.testing.selenium.pagewidgets.Helpers.waitNetworkIdled;
-import static com.adobe.cq.testing.selenium.pagewidgets.Helpers.waitDocumentLoadCompleted;
-import static com.adobe.cq.testing.selenium.pagewidgets.coral.CoralReady.waitCoralReady;
 import static com.codeborne.selenide.Selenide.$;
 
 /**
@@ -40,6 +40,7 @@ import static com.codeborne.selenide.Selenide.$;
 public abstract class BasePage {
 
     private static final int NETWORK_POLLING_INTERVAL = 250;
+    private static final int DOM_POLLING_INTERVAL = 250;
     private static final SelenideElement UI_MASK = $("div.foundation-ui-mask");
 
     private final URI baseURI;
@@ -183,12 +184,23 @@ public abstract class BasePage {
     }
 
     /**
-     * Wait that the page is ready (according to coral).
+     * Wait that the page is ready, all the {@link #getReadyConditions()} being evaluated together in the browser.
      */
     public void waitReady() {
-        waitNetworkIdled(NETWORK_POLLING_INTERVAL);
-        waitDocumentLoadCompleted();
-        waitCoralReady();
+        Helpers.waitReady(getReadyConditions());
+    }
+
+    /**
+     * Conditions for the page to be ready (according to coral), subclasses can override it with their own.
+     *
+     * @return the readiness conditions of this page.
+     */
+    protected List<ReadyCondition> getReadyConditions() {
+        return Arrays.asList(
+                ReadyCondition.documentComplete(),
+                ReadyCondition.networkIdle(NETWORK_POLLING_INTERVAL),
+                ReadyCondition.coralReady("body"),
+                ReadyCondition.domIdle(DOM_POLLING_INTERVAL));
     }
 
     /**
@@ -119,7 +119,7 @@ public final class LoginPage extends BasePage {
             }
             usernameField().setValue(username);
             passwordField().setValue(password);
-            ExpectNav.on(this::submit);
+            ExpectNav.on(this::submit, ExpectNav.LoadState.COMPLETE);
             startPage.waitReady();
         } else {
             startPage.open();
@@ -20,6 +20,8 @@ import com.adobe.cq.testing.client.CQClient;
 import com.adobe.cq.testing.selenium.pagewidgets.common.ActionComponent;
 import com.adobe.cq.testing.selenium.pagewidgets.common.BaseComponent;
 import com.adobe.cq.testing.selenium.pagewidgets.coral.Dialog;
+import com.adobe.cq.testing.selenium.utils.BrowserRuntime;
+import com.adobe.cq.testing.selenium.utils.WaitScheduler;
 import com.codeborne.selenide.*;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -28,16 +30,14 @@ import org.apache.commons.codec.DecoderException;
 import org.apache.commons.codec.net.URLCodec;
 import org.openqa.selenium.Cookie;
 import org.openqa.selenium.Cookie.Builder;
-import org.openqa.selenium.JavascriptExecutor;
-import org.openqa.selenium.Point;
+import org.openqa.selenium.JavascriptException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicReference;
 
 import static com.adobe.cq.testing.selenium.Constants.DEFAULT_WAIT_TIME;
 import static com.adobe.cq.testing.selenium.utils.ElementUtils.clickableClick;
@@ -46,17 +46,23 @@ import static com.codeborne.selenide.Selenide.*;
 public final class Helpers {
 
   private static final Logger LOG = LoggerFactory.getLogger(Helpers.class);
-  private static final String JS_NETWORK_IDLE = ""
-    + "let resources = performance.getEntriesByType(\"resource\");"
-    + "if (resources.find(e => { return e.responseEnd <= 0 })) {"
-    + " return -1;"
-    + "} else {"
-    + " return resources.filter(e => { return e.name.indexOf(\"/pulse.data.json\") < 0 && e.name.indexOf(\"/token.json\") < 0; }).length;"
-    + "}";
-  private static final String JS_METRICS_IDLE = "return performance.getEntriesByName(arguments[0]).length";
-  private static final String JS_FCP = "return performance.getEntriesByType(\"paint\").length";
+  /**
+   * Default url fragments of requests which are ignored by the network idle detection (polling endpoints).
+   */
+  public static final String[] DEFAULT_NETWORK_IDLE_EXCLUSIONS = new String[] {"/pulse.data.json", "/token.json"};
+
+  // Budget of a single async wait in the browser, kept below the default webdriver script timeout.
+  private static final long ASYNC_WAIT_BUDGET = 5000;
+
+  // Opt-in: dispatch the drag and drop events in the page before falling back to pointer actions.
+  private static final boolean SYNTHETIC_DRAG_AND_DROP =
+      Boolean.parseBoolean(System.getProperty("syntheticDragAndDrop", "false"));
+
   private static final String CK_AFFINITY = "affinity";
 
+  private static volatile List<String> networkIdleExclusions =
+      Collections.unmodifiableList(Arrays.asList(DEFAULT_NETWORK_IDLE_EXCLUSIONS));
+
   private Helpers() {
 
   }
@@ -70,9 +76,8 @@ public final class Helpers {
   public static boolean waitForAlert(final int timeout) {
     boolean hasAlert = false;
     try {
-      Wait().withTimeout(Duration.ofMillis(timeout))
-          .until(webDriver -> webDriver.switchTo().alert().getText() != null);
-      hasAlert = true;
+      hasAlert = WaitScheduler.until("alert",
+          () -> WebDriverRunner.getWebDriver().switchTo().alert().getText() != null, timeout);
     } catch (Exception e) {
       // ignore exceptions
     }
@@ -89,19 +94,24 @@ public final class Helpers {
   }
 
   /**
+   * Waits in the browser until the element has no running animation or transition and its position, size,
+   * opacity and transform are stable over consecutive animation frames.
+   *
    * @param target the element that is targeted.
    */
   public static void waitForElementAnimationFinished(final SelenideElement target) {
-    // @todo Externalize  Animation finished should be used for both hide/show events.
-
-    // Wait until animation is finished
-    final AtomicReference<Point> atomicPoint = new AtomicReference(new Point(0, 0));
-    Wait().withTimeout(Duration.ofMillis(DEFAULT_WAIT_TIME)).until(webDriver -> {
-      Point currentLocation = target.getLocation();
-      Point previousLocation = atomicPoint.getAndSet(currentLocation);
-      return previousLocation.getX() == currentLocation.getX()
-          && previousLocation.getY() == currentLocation.getY();
-    });
+    WaitScheduler.await("animationFinished", target.toString(), () -> assertAnimationFinished(target),
+        DEFAULT_WAIT_TIME);
+  }
+
+  private static boolean assertAnimationFinished(final SelenideElement target) {
+    boolean finished = false;
+    try {
+      finished = Boolean.TRUE.equals(BrowserRuntime.callAsync("animationFinished", target, DEFAULT_WAIT_TIME));
+    } catch (JavascriptException e) {
+      LOG.info("Animation detection interrupted due to {}", e.getMessage());
+    }
+    return finished;
   }
 
   /**
@@ -216,9 +226,8 @@ public final class Helpers {
   public static boolean waitForListSizeChange(int originalSize, ElementsCollection list, final int timeout) {
     boolean listSizeChanged = false;
     try {
-      Wait().withTimeout(Duration.ofMillis(timeout))
-              .until(webDriver -> originalSize != list.size());
-      listSizeChanged = true;
+      listSizeChanged = WaitScheduler.until("listSizeChange", list.toString(), () -> originalSize != list.size(),
+          timeout);
     } catch (Exception e) {
       // ignore exceptions
     }
@@ -226,19 +235,60 @@ public final class Helpers {
   }
 
   /**
-   * Drad and drop an element to another element
+   * Drag and drop an element to another element. With the syntheticDragAndDrop system property, HTML5 draggable
+   * elements are first dropped in a single call dispatching the drag events in the page. Pointer actions are used
+   * otherwise, or when the target didn't accept the in-page drop.
    *
    * @param dragElement: The SelenideElement to be dragged
    * @param targetElement: The SelenideElement the dragElement should be dropped
    */
   public static void dragOnPage(final SelenideElement dragElement, SelenideElement targetElement) {
+    drag(dragElement, targetElement, false);
+  }
+
+  /**
+   * Drag a reorder handle over another element, i.e the move handle of a multifield item. With the
+   * syntheticDragAndDrop system property, the mouse based handles (Coral DragAction) are first dragged by mouse events
+   * dispatched in the page, the drop being verified by the handle moving past the target in the document. Pointer
+   * actions are used otherwise, or when the in-page drag didn't reorder.
+   *
+   * @param dragHandle the handle to drag.
+   * @param targetElement the element to move the handle over.
+   */
+  public static void reorderOnPage(final SelenideElement dragHandle, final SelenideElement targetElement) {
+    drag(dragHandle, targetElement, true);
+  }
+
+  private static void drag(final SelenideElement dragElement, final SelenideElement targetElement,
+                           final boolean reorder) {
     dragElement.shouldBe(Condition.visible);
     targetElement.shouldBe(Condition.visible);
+    if (SYNTHETIC_DRAG_AND_DROP && dropInPage(dragElement, targetElement, reorder)) {
+      return;
+    }
     actions()
             .dragAndDrop(dragElement, targetElement)
             .perform();
   }
 
+  private static boolean dropInPage(final SelenideElement dragElement, final SelenideElement targetElement,
+                                    final boolean reorder) {
+    try {
+      final Map<String, Object> result = BrowserRuntime.callAsync("dragAndDrop", dragElement.toWebElement(),
+          targetElement.toWebElement(), reorder);
+      if (Boolean.TRUE.equals(result.get("dropped"))) {
+        return true;
+      }
+      if (!"pointer".equals(result.get("mode"))) {
+        LOG.info("In-page {} drop of {} on {} not done (started: {}), dragging with pointer actions",
+            result.get("mode"), dragElement, targetElement, result.get("started"));
+      }
+    } catch (WebDriverException e) {
+      LOG.debug("Cannot drag {} in the page due to {}", dragElement, e.getMessage());
+    }
+    return false;
+  }
+
   /**
    * This method will evaluate if the element is top most on it's position (top,left) An element
    * could be behind another element with another z-index and webdriver.io isVisible() will return
@@ -249,93 +299,137 @@ public final class Helpers {
    * @return true if element is top most else false. If element is not existing false
    */
   public static boolean isElementTopMost(final String selector) {
-    final String elementTopMostJS = ""
-        + "        let selector = arguments[0];\n"
-        + "        // Execute on browser the detection\n"
-        + "        // eslint-disable-next-line no-undef\n"
-        + "        let element = document.querySelector(selector);\n"
-        + "        if (!element) {\n"
-        + "            return false;\n"
-        + "        }\n"
-        + "        let clientRect = element.getBoundingClientRect();\n"
-        + "        let elementX = clientRect.left;\n"
-        + "        let elementY = clientRect.top;\n"
-        + "        // eslint-disable-next-line no-undef\n"
-        + "        let visibleElementAtPosition = document.elementFromPoint(elementX, elementY);\n"
-        + "        return element === visibleElementAtPosition;\n";
-    return Selenide.executeJavaScript(elementTopMostJS, selector);
+    return BrowserRuntime.call("isElementTopMost", selector);
   }
 
 
   private static boolean assertFCP() {
-    return (long) Selenide.executeJavaScript(JS_FCP) == 2;
+    return ((Number) BrowserRuntime.call("paintCount")).longValue() == 2;
   }
 
   /**
    * Await until the window.performance metrics contains the First Content Paint.
    */
   public static void waitFirstContentPaint() {
-    Wait().until(webdriver -> assertFCP());
+    WaitScheduler.await("firstContentPaint", Helpers::assertFCP);
   }
 
-  private static boolean assertNetworkIdled(final long pollingInterval) {
-    long initialCount = Selenide.executeJavaScript(JS_NETWORK_IDLE);
+  private static boolean assertNetworkIdled(final long quietWindow) {
     boolean asserted = false;
-    if (initialCount >= 0) {
-      Selenide.sleep(pollingInterval);
-      long afterCount = Selenide.executeJavaScript(JS_NETWORK_IDLE);
-      if (afterCount >= 0) {
-        asserted = initialCount == afterCount;
-      } else {
-        LOG.info("Network busy#2");
+    try {
+      Object idled = BrowserRuntime.callAsync("networkIdle", networkIdleExclusions, quietWindow, ASYNC_WAIT_BUDGET);
+      asserted = Boolean.TRUE.equals(idled);
+      if (!asserted) {
+        LOG.info("Network busy");
       }
-    } else {
-      LOG.info("Network busy#1");
+    } catch (JavascriptException e) {
+      LOG.info("Network idle detection interrupted due to {}", e.getMessage());
     }
     return asserted;
   }
 
   private static boolean assertMetricsIdled(final long pollingInterval, final String name) {
-    long initialCount = Selenide.executeJavaScript(JS_METRICS_IDLE, name);
+    long initialCount = ((Number) BrowserRuntime.call("entriesCount", name)).longValue();
     Selenide.sleep(pollingInterval);
-    long afterCount = Selenide.executeJavaScript(JS_METRICS_IDLE, name);
+    long afterCount = ((Number) BrowserRuntime.call("entriesCount", name)).longValue();
     return initialCount == afterCount;
   }
 
-  private static boolean assertDOMIdled(final long pollingInterval) {
-    String previousHTML = WebDriverRunner.source();
-    Selenide.sleep(pollingInterval);
-    boolean same = WebDriverRunner.source().equals(previousHTML);
-    if (!same) {
-      LOG.info("DOM Changed detected !");
+  private static boolean assertDOMIdled(final long quietWindow, final String selector) {
+    boolean same = false;
+    try {
+      same = Boolean.TRUE.equals(BrowserRuntime.callAsync("domIdle", selector, quietWindow, ASYNC_WAIT_BUDGET));
+      if (!same) {
+        LOG.info("DOM Changed detected !");
+      }
+    } catch (JavascriptException e) {
+      LOG.info("DOM idle detection interrupted due to {}", e.getMessage());
     }
     return same;
   }
 
   /**
-   * Await that all open network connections are completed within consecutive polling interval.
-   * @param pollingInterval polling interval for idle detection.
+   * Await that no fetch/XHR request is in-flight and no resource completed during the given quiet window.
+   * The detection runs in the browser, only returning once idled (or after a bounded budget before retrying).
+   * @param pollingInterval quiet window in milliseconds for idle detection.
    */
   public static void waitNetworkIdled(final long pollingInterval) {
-    LOG.info("waitNetworkIdled with polling interval={}ms", pollingInterval);
-    Wait().until(webdriver -> assertNetworkIdled(pollingInterval));
+    LOG.info("waitNetworkIdled with quiet window={}ms", pollingInterval);
+    WaitScheduler.await("networkIdle", () -> assertNetworkIdled(pollingInterval));
+  }
+
+  /**
+   * Define which requests are ignored by {@link #waitNetworkIdled(long)}, i.e. long polling endpoints.
+   * @param urlFragments url fragments to ignore, {@link #DEFAULT_NETWORK_IDLE_EXCLUSIONS} by default.
+   */
+  public static void setNetworkIdleExclusions(final String... urlFragments) {
+    networkIdleExclusions = Collections.unmodifiableList(Arrays.asList(urlFragments.clone()));
+  }
+
+  /**
+   * @return url fragments of requests ignored by the network idle detection.
+   */
+  public static List<String> getNetworkIdleExclusions() {
+    return networkIdleExclusions;
   }
   
+  /**
+   * Await that all the conditions are fulfilled together, evaluated by a single async script in the browser.
+   * @param conditions the readiness conditions to fulfill.
+   */
+  public static void waitReady(final List<ReadyCondition> conditions) {
+    LOG.info("waitReady({})", conditions);
+    final List<Map<String, Object>> specs = ReadyCondition.toSpecs(conditions);
+    final Map<String, String> customs = ReadyCondition.toCustomChecks(conditions);
+    WaitScheduler.await("ready", conditions.toString(), () -> assertReady(specs, customs), Configuration.timeout);
+  }
+
+  private static boolean assertReady(final List<Map<String, Object>> specs, final Map<String, String> customs) {
+    boolean ready = false;
+    try {
+      Map<String, Object> result = BrowserRuntime.callAsync("ready", specs, ASYNC_WAIT_BUDGET);
+      if (result != null && result.get("undefinedChecks") != null) {
+        // custom conditions are sent once per document
+        for (Object id : BrowserRuntime.asList(result.get("undefinedChecks"))) {
+          BrowserRuntime.call("defineCheck", id, customs.get(id));
+        }
+        result = BrowserRuntime.callAsync("ready", specs, ASYNC_WAIT_BUDGET);
+      }
+      ready = result != null && Boolean.TRUE.equals(result.get("ready"));
+      if (!ready && result != null) {
+        LOG.info("Not ready yet, pending {}", result.get("pending"));
+      }
+    } catch (JavascriptException e) {
+      LOG.info("Readiness detection interrupted due to {}", e.getMessage());
+    }
+    return ready;
+  }
+
   /**
    * Await that the document load is fully completed.
    */
   public static void waitDocumentLoadCompleted() {
 	LOG.info("waitDocumentLoadComleted");
-	Wait().until(driver -> ((JavascriptExecutor) driver).executeScript("return document.readyState").equals("complete"));
+	WaitScheduler.await("documentLoad", () -> "complete".equals(Selenide.executeJavaScript("return document.readyState")));
   }
 
   /**
-   * Await that page source (DOM) isn't changed within consecutive polling interval.
-   * @param pollingInterval polling interval for idle detection.
+   * Await that the DOM isn't changed within the quiet window.
+   * @param pollingInterval quiet window in milliseconds for idle detection.
    */
   public static void waitDOMIdled(final long pollingInterval) {
-    LOG.info("waitDOMIdled with polling interval={}ms", pollingInterval);
-    Wait().until(webdriver -> assertDOMIdled(pollingInterval));
+    waitDOMIdled(pollingInterval, null);
+  }
+
+  /**
+   * Await that the subtree matching the selector isn't changed within the quiet window.
+   * Mutations are observed in the browser so the page source is never transferred.
+   * @param pollingInterval quiet window in milliseconds for idle detection.
+   * @param selector CSS selector of the observed subtree, the whole document if null or not found.
+   */
+  public static void waitDOMIdled(final long pollingInterval, final String selector) {
+    LOG.info("waitDOMIdled({}) with quiet window={}ms", selector, pollingInterval);
+    WaitScheduler.await("domIdle", selector, () -> assertDOMIdled(pollingInterval, selector), Configuration.timeout);
   }
 
   /**
@@ -344,7 +438,7 @@ public final class Helpers {
    * @param name marker name
    */
   public static void waitMetricsIdled(final long pollingInterval, final String name) {
-    Wait().until(webdriver -> assertMetricsIdled(pollingInterval, name));
+    WaitScheduler.await("metricsIdle", name, () -> assertMetricsIdled(pollingInterval, name), Configuration.timeout);
   }
 
   /**
@@ -16,7 +16,7 @@
 
 package com.adobe.cq.testing.selenium.pagewidgets;
 
-import com.codeborne.selenide.Selenide;
+import com.adobe.cq.testing.selenium.utils.BrowserRuntime;
 
 public final class I18N {
 
@@ -29,6 +29,6 @@ public final class I18N {
    * @return internationalized in the current context language.
    */
   public static String geti18nString(final String string) {
-    return Selenide.executeJavaScript("return Granite.I18n.get(arguments[0]);", string);
+    return BrowserRuntime.call("i18n", string);
   }
 }
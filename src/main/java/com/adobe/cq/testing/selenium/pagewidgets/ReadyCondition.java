@@ -0,0 +1,168 @@
+/*
+ * Copyright 2021 Adobe Systems Incorporated
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.adobe.cq.testing.selenium.pagewidgets;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A readiness condition evaluated in the browser by {@link Helpers#waitReady(List)}.
+ * <p>
+ * The built-in conditions are checks of the browser runtime (see
+ * {@link com.adobe.cq.testing.selenium.utils.BrowserRuntime}). A custom condition is a JavaScript function
+ * expression called as {@code fn(state, args)} where {@code state} is an object kept across evaluations of the same
+ * wait and {@code args} the condition arguments. It returns a boolean (or a Promise of a boolean) and may register a
+ * {@code state.dispose} function called once the wait is over.
+ */
+public final class ReadyCondition {
+
+    private final String name;
+    private final String check;
+    private final String script;
+    private final List<Object> arguments;
+
+    private ReadyCondition(final String conditionName, final String runtimeCheck, final String conditionScript,
+                           final Object... conditionArguments) {
+        name = conditionName;
+        check = runtimeCheck;
+        script = conditionScript;
+        arguments = Collections.unmodifiableList(Arrays.asList(conditionArguments));
+    }
+
+    private static ReadyCondition builtin(final String runtimeCheck, final Object... conditionArguments) {
+        return new ReadyCondition(runtimeCheck, runtimeCheck, null, conditionArguments);
+    }
+
+    /**
+     * @return condition fulfilled when the document is fully loaded.
+     */
+    public static ReadyCondition documentComplete() {
+        return builtin("documentComplete");
+    }
+
+    /**
+     * @param quietWindow time in milliseconds without network activity.
+     * @return condition fulfilled when no request is in-flight, ignoring {@link Helpers#getNetworkIdleExclusions()}.
+     */
+    public static ReadyCondition networkIdle(final long quietWindow) {
+        return builtin("networkIdle", Helpers.getNetworkIdleExclusions(), quietWindow);
+    }
+
+    /**
+     * @param quietWindow time in milliseconds without DOM mutation.
+     * @return condition fulfilled when the DOM didn't change during the quiet window.
+     */
+    public static ReadyCondition domIdle(final long quietWindow) {
+        return builtin("domIdle", quietWindow);
+    }
+
+    /**
+     * @param selector the root of the Coral components to check.
+     * @return condition fulfilled when all the Coral components below the selector are initialized.
+     */
+    public static ReadyCondition coralReady(final String selector) {
+        return builtin("coralReady", selector);
+    }
+
+    /**
+     * @return condition fulfilled when the Granite author page info is loaded.
+     */
+    public static ReadyCondition graniteAuthorPageInfo() {
+        return builtin("graniteAuthorPageInfo");
+    }
+
+    /**
+     * @param frameSelector selector of the frame.
+     * @return condition fulfilled when the frame document is loaded, or the frame doesn't exist.
+     */
+    public static ReadyCondition frameLoaded(final String frameSelector) {
+        return builtin("frameLoaded", frameSelector);
+    }
+
+    /**
+     * @param name name of the condition, reported when not fulfilled.
+     * @param jsFunction JavaScript function expression called as {@code fn(state, args)}.
+     * @param arguments arguments passed as {@code args} array to the function.
+     * @return a custom condition.
+     */
+    public static ReadyCondition custom(final String name, final String jsFunction, final Object... arguments) {
+        return new ReadyCondition(name, null, jsFunction, arguments);
+    }
+
+    /**
+     * @return the name of this condition.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the arguments passed to the condition function.
+     */
+    public List<Object> getArguments() {
+        return arguments;
+    }
+
+    /**
+     * @param conditions the conditions to evaluate together.
+     * @return the specs of the conditions passed to the runtime, custom ones referring to their id in
+     * {@link #toCustomChecks(List)}.
+     */
+    static List<Map<String, Object>> toSpecs(final List<ReadyCondition> conditions) {
+        final List<Map<String, Object>> specs = new ArrayList<>();
+        for (ReadyCondition condition : conditions) {
+            final Map<String, Object> spec = new LinkedHashMap<>();
+            spec.put("name", condition.name);
+            if (condition.check != null) {
+                spec.put("check", condition.check);
+            } else {
+                spec.put("custom", condition.getCustomId());
+            }
+            spec.put("args", condition.arguments);
+            specs.add(spec);
+        }
+        return specs;
+    }
+
+    /**
+     * @param conditions the conditions to evaluate together.
+     * @return the function expression of each custom condition by id, registered once per document in the runtime.
+     */
+    static Map<String, String> toCustomChecks(final List<ReadyCondition> conditions) {
+        final Map<String, String> checks = new LinkedHashMap<>();
+        for (ReadyCondition condition : conditions) {
+            if (condition.check == null) {
+                checks.put(condition.getCustomId(), condition.script);
+            }
+        }
+        return checks;
+    }
+
+    // Derived from the function source, so that the same function is registered only once.
+    private String getCustomId() {
+        return "custom-" + Integer.toHexString(script.hashCode());
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -55,7 +55,7 @@ public class ActionComponent<V> extends BaseComponent {
      */
     public V perform() {
         if (expectNavOnPerform) {
-            ExpectNav.on(() -> click());
+            ExpectNav.on(() -> click(), ExpectNav.LoadState.COMPLETE);
         } else {
             click();
         }
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2021 Adobe Systems Incorporated
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.adobe.cq.testing.selenium.pagewidgets.common;
+
+import com.adobe.cq.testing.selenium.utils.BrowserRuntime;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Immutable state of a button at the time of a snapshot.
+ */
+public final class ButtonState {
+
+    private static final ButtonState ABSENT = new ButtonState(false, false, false);
+
+    private final boolean present;
+    private final boolean visible;
+    private final boolean enabled;
+
+    private ButtonState(final boolean present, final boolean visible, final boolean enabled) {
+        this.present = present;
+        this.visible = visible;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Read the state of the buttons of all the actions in a single call.
+     *
+     * @param actions type of the actions.
+     * @param rootSelector CSS selector of the element containing the buttons, null for the whole document.
+     * @param selector CSS selector of the button of an action, in the root element.
+     * @param <E> type of the actions.
+     * @return the button state of each action.
+     */
+    public static <E extends Enum<E>> EnumMap<E, ButtonState> snapshot(final Class<E> actions, final String rootSelector,
+                                                                     final Function<E, String> selector) {
+        final Map<String, String> selectors = new LinkedHashMap<>();
+        for (E action : actions.getEnumConstants()) {
+            selectors.put(action.name(), selector.apply(action));
+        }
+        return fromRuntime(actions, BrowserRuntime.call("buttonStates", rootSelector, selectors));
+    }
+
+    static <E extends Enum<E>> EnumMap<E, ButtonState> fromRuntime(final Class<E> actions,
+                                                                  final Map<String, Map<String, Boolean>> states) {
+        final EnumMap<E, ButtonState> snapshot = new EnumMap<>(actions);
+        for (E action : actions.getEnumConstants()) {
+            final Map<String, Boolean> state = states.get(action.name());
+            snapshot.put(action, state == null || !Boolean.TRUE.equals(state.get("present")) ? ABSENT
+                    : new ButtonState(true, Boolean.TRUE.equals(state.get("visible")),
+                    Boolean.TRUE.equals(state.get("enabled"))));
+        }
+        return snapshot;
+    }
+
+    /**
+     * @return true if the button is in the DOM.
+     */
+    public boolean isPresent() {
+        return present;
+    }
+
+    /**
+     * @return true if the button is displayed.
+     */
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /**
+     * @return true if the button is not disabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return true if the button is displayed and enabled.
+     */
+    public boolean isAvailable() {
+        return visible && enabled;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (!(o instanceof ButtonState)) {
+            return false;
+        }
+        final ButtonState other = (ButtonState) o;
+        return present == other.present && visible == other.visible && enabled == other.enabled;
+    }
+
+    @Override
+    public int hashCode() {
+        return (present ? 4 : 0) + (visible ? 2 : 0) + (enabled ? 1 : 0);
+    }
+
+    @Override
+    public String toString() {
+        if (!present) {
+            return "absent";
+        }
+        return (visible ? "visible" : "hidden") + (enabled ? " enabled" : " disabled");
+    }
+}
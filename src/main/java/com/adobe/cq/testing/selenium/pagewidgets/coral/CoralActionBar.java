@@ -17,12 +17,16 @@
 package com.adobe.cq.testing.selenium.pagewidgets.coral;
 
 import com.adobe.cq.testing.selenium.pagewidgets.common.BaseComponent;
+import com.adobe.cq.testing.selenium.utils.DomSnapshot;
 import com.codeborne.selenide.SelenideElement;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 public final class CoralActionBar extends BaseComponent {
 
+    private static final String ITEM_SELECTOR = "coral-actionbar-item";
+
     /**
      * Constructor to get the actionbar.
      */
@@ -41,7 +45,15 @@ public final class CoralActionBar extends BaseComponent {
      * @return all the items elements in the action bar.
      */
     public Stream<Item> items() {
-        return element().$$("coral-actionbar-item").stream().map(Item::new);
+        return element().$$(ITEM_SELECTOR).stream().map(Item::new);
+    }
+
+    /**
+     * @param fields the fields to read on each item.
+     * @return snapshots of all the items in the action bar, read in a single call.
+     */
+    public List<DomSnapshot> snapshotItems(final DomSnapshot.Field... fields) {
+        return DomSnapshot.of(element(), ITEM_SELECTOR, fields);
     }
 
     public class Item extends BaseComponent {
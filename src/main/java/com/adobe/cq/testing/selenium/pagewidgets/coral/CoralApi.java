@@ -0,0 +1,93 @@
+/*
+ * Copyright 2021 Adobe Systems Incorporated
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.adobe.cq.testing.selenium.pagewidgets.coral;
+
+import com.adobe.cq.testing.selenium.utils.BrowserRuntime;
+import com.codeborne.selenide.SelenideElement;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * API mode of the Coral widgets: when enabled, {@link CoralSelect}, {@link CoralCheckbox} and {@link CoralMultiField}
+ * set their value through the Coral component API and trigger the change event in a single script instead of
+ * clicking. They fall back to clicks when the component is not upgraded or the item is not found.
+ * <p>
+ * Disabled by default, or set by the coralApiMode system property. Switched per thread, i.e per test with
+ * {@link com.adobe.cq.testing.selenium.junit.annotations.CoralApiMode}.
+ */
+public final class CoralApi {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CoralApi.class);
+
+    private static final boolean DEFAULT_ENABLED = Boolean.parseBoolean(System.getProperty("coralApiMode", "false"));
+    private static final ThreadLocal<Boolean> ENABLED = ThreadLocal.withInitial(() -> DEFAULT_ENABLED);
+
+    private CoralApi() {
+    }
+
+    /**
+     * @return true if the Coral widgets of the current thread use the Coral API.
+     */
+    public static boolean isEnabled() {
+        return ENABLED.get();
+    }
+
+    /**
+     * @param enabled true to use the Coral API in the current thread, false to click.
+     */
+    public static void setEnabled(final boolean enabled) {
+        ENABLED.set(enabled);
+    }
+
+    /**
+     * Restore the default mode in the current thread.
+     */
+    public static void reset() {
+        ENABLED.remove();
+    }
+
+    static boolean select(final SelenideElement select, final String by, final Object key) {
+        return call("coralSelect", select, by, key);
+    }
+
+    static boolean check(final SelenideElement checkbox, final boolean checked) {
+        return call("coralCheck", checkbox, checked);
+    }
+
+    static boolean addMultifieldItem(final SelenideElement multifield) {
+        return call("coralMultifieldAdd", multifield);
+    }
+
+    private static boolean call(final String function, final SelenideElement element, final Object... arguments) {
+        if (!isEnabled()) {
+            return false;
+        }
+        final Object[] allArguments = new Object[arguments.length + 1];
+        allArguments[0] = element;
+        System.arraycopy(arguments, 0, allArguments, 1, arguments.length);
+        try {
+            if (Boolean.TRUE.equals(BrowserRuntime.call(function, allArguments))) {
+                return true;
+            }
+            LOG.debug("Coral API unavailable for {} on {}, clicking instead", function, element);
+        } catch (WebDriverException e) {
+            LOG.debug("Coral API failed for {} on {}, clicking instead: {}", function, element, e.getMessage());
+        }
+        return false;
+    }
+}
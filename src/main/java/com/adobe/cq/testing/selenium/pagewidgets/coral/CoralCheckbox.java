@@ -44,7 +44,15 @@ public class CoralCheckbox extends BaseComponent {
     return element().has(Condition.attribute("checked", "true"));
   }
   
+  /**
+   * Selects the checkbox input, or sets the checkbox checked state with the Coral API in {@link CoralApi} mode.
+   * @param selected true to check the checkbox.
+   * @return this checkbox.
+   */
   public CoralCheckbox setSelected(boolean selected) {
+    if (CoralApi.check(element(), selected)) {
+      return this;
+    }
 	  this.element().$("input").setSelected(selected);
 	return this;
   }
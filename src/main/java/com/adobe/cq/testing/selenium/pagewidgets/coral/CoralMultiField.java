@@ -17,20 +17,23 @@
 
 package com.adobe.cq.testing.selenium.pagewidgets.coral;
 
+import com.adobe.cq.testing.selenium.pagewidgets.Helpers;
 import com.adobe.cq.testing.selenium.pagewidgets.common.BaseComponent;
+import com.adobe.cq.testing.selenium.utils.DomSnapshot;
+import com.adobe.cq.testing.selenium.utils.WaitScheduler;
+import com.codeborne.selenide.Configuration;
 import com.codeborne.selenide.ElementsCollection;
 import com.codeborne.selenide.SelenideElement;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import static com.adobe.cq.testing.selenium.utils.ElementUtils.clickableClick;
-import static com.codeborne.selenide.Selenide.actions;
-import static com.codeborne.selenide.Selenide.sleep;
 
 public class CoralMultiField extends BaseComponent {
 
   private static final String SELECTOR_PATTERN = "coral-multifield[data-granite-coral-multifield-name=\"%s\"]";
-  private static final int SMALL_DELAY = 250;
+  private static final String ITEM_SELECTOR = "coral-multifield-item";
 
   private SelenideElement addButton;
 
@@ -51,12 +54,16 @@ public class CoralMultiField extends BaseComponent {
   }
 
   /**
-   * Click on add button.
+   * Click on add button, or add an item with the Coral API in {@link CoralApi} mode.
    * @return added element.
    */
   public MultiFieldItem add() {
-    clickableClick(addButton);
-    sleep(SMALL_DELAY);
+    final ElementsCollection items = element().$$(ITEM_SELECTOR);
+    final int before = items.size();
+    if (!CoralApi.addMultifieldItem(element())) {
+      clickableClick(addButton);
+    }
+    WaitScheduler.until("multiFieldAdd", () -> items.size() > before, Configuration.timeout);
     return items().reduce((first, second) -> second).orElse(null);
   }
 
@@ -64,10 +71,19 @@ public class CoralMultiField extends BaseComponent {
    * @return list of coral-multifield-item
    */
   public Stream<MultiFieldItem> items() {
-    ElementsCollection items = element().$$("coral-multifield-item");
+    ElementsCollection items = element().$$(ITEM_SELECTOR);
     return items.stream().map(i -> new MultiFieldItem(i));
   }
 
+  /**
+   * @param fields the fields to read on each item, i.e the value of its input with
+   * {@code DomSnapshot.Field.descendant("input", DomSnapshot.Field.property("value"))}.
+   * @return snapshots of all the coral-multifield-item, read in a single call.
+   */
+  public List<DomSnapshot> snapshotItems(final DomSnapshot.Field... fields) {
+    return DomSnapshot.of(element(), ITEM_SELECTOR, fields);
+  }
+
   public final class MultiFieldItem extends BaseComponent {
     /**
      * @param itemElement the item element to wrap this on.
@@ -84,13 +100,11 @@ public class CoralMultiField extends BaseComponent {
     }
 
     /**
+     * Drag the move handle over another item, see {@link Helpers#reorderOnPage(SelenideElement, SelenideElement)}.
      * @param item the element to move it over
      */
     public void move(final MultiFieldItem item) {
-      final SelenideElement moveButton = element().$("button[handle=\"move\"]");
-      actions()
-          .dragAndDrop(moveButton, item.element())
-          .perform();
+      Helpers.reorderOnPage(element().$("button[handle=\"move\"]"), item.element());
     }
 
     /**
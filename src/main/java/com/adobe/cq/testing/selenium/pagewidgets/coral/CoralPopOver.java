@@ -17,8 +17,10 @@
 package com.adobe.cq.testing.selenium.pagewidgets.coral;
 
 import com.adobe.cq.testing.selenium.pagewidgets.common.BaseComponent;
+import com.adobe.cq.testing.selenium.utils.DomSnapshot;
 import com.codeborne.selenide.SelenideElement;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import static com.codeborne.selenide.Selenide.$$;
@@ -50,6 +52,14 @@ public final class CoralPopOver extends BaseComponent {
         return $$(CORAL_POPOVER_IS_OPEN).stream().map(CoralPopOver::new);
     }
 
+    /**
+     * @param fields the fields to read on each popover.
+     * @return snapshots of all the coral popover currently opened, read in a single call.
+     */
+    public static List<DomSnapshot> snapshotOpened(final DomSnapshot.Field... fields) {
+        return DomSnapshot.of(CORAL_POPOVER_IS_OPEN, fields);
+    }
+
     /**
      * @return a stream with all the coral popover currently opened.
      */
@@ -17,11 +17,12 @@
 package com.adobe.cq.testing.selenium.pagewidgets.coral;
 
 import com.adobe.cq.testing.selenium.pagewidgets.Helpers;
-import com.codeborne.selenide.Selenide;
+import com.adobe.cq.testing.selenium.utils.BrowserRuntime;
+import com.adobe.cq.testing.selenium.utils.WaitScheduler;
+import com.adobe.cq.testing.selenium.utils.WaitTelemetry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import static com.codeborne.selenide.Selenide.Wait;
 import static com.codeborne.selenide.Selenide.open;
 
 public final class CoralReady {
@@ -32,15 +33,8 @@ public final class CoralReady {
     private CoralReady() {
     }
 
-    // JS script to be executed on browser to make sure all Coral components below coral-shell are initialized
-    private static final String JS_CORAL_READY_CONDITION = "window && window.Coral && window.Coral.commons && window.Coral.commons.ready && true";
-    private static final String JS_CORAL_READY_SCRIPT =
-              "if (%s) {%n"
-            + "window.Coral.commons.ready('%s', arguments[0])"
-            + "}%n";
-
     public static boolean assertCoralReadyCondition() {
-        return Boolean.TRUE.equals(Selenide.executeJavaScript("return " + JS_CORAL_READY_CONDITION));
+        return Boolean.TRUE.equals(BrowserRuntime.call("coralAvailable"));
     }
 
     public static <T> T openReady(final String absoluteOrRelavive, final Class<T> pageObject) {
@@ -56,10 +50,12 @@ public final class CoralReady {
 
     public static void waitCoralReady(final String selector) {
         LOG.info("waitCoralReady({})", selector);
-        Wait().until(webdriver -> CoralReady.assertCoralReadyCondition());
+        WaitScheduler.await("coralReadyCondition", CoralReady::assertCoralReadyCondition);
         LOG.debug("CoralReady Precondition checked");
-        Selenide.executeAsyncJavaScript(String.format(JS_CORAL_READY_SCRIPT, JS_CORAL_READY_CONDITION, selector));
+        final long start = System.currentTimeMillis();
+        BrowserRuntime.callAsync("coralReady", selector);
+        WaitTelemetry.record("coralReady", selector, System.currentTimeMillis() - start, 1, 0);
         LOG.debug("CoralReady checked");
-        Helpers.waitDOMIdled(DOM_POLLING_INTERVAL);
+        Helpers.waitDOMIdled(DOM_POLLING_INTERVAL, selector);
     }
 }
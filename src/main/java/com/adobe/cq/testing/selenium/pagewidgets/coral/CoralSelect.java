@@ -73,31 +73,40 @@ public final class CoralSelect extends BaseComponent {
     }
 
     /**
-     * Clicks an item by it's index.
+     * Clicks an item by it's index, or selects it with the Coral API in {@link CoralApi} mode.
      *
      * @param index index of the targeted item in this select.
      */
     public void selectItemByIndex(final int index) {
+        if (CoralApi.select(element(), "index", index)) {
+            return;
+        }
         CoralSelectList list = openSelectList();
         list.selectByIndex(index);
     }
 
     /**
-     * Clicks an item by it's label.
+     * Clicks an item by it's label, or selects it with the Coral API in {@link CoralApi} mode.
      *
      * @param label label of the targeted item in this select.
      */
     public void selectItemByLabel(final String label) {
+        if (CoralApi.select(element(), "label", label)) {
+            return;
+        }
         CoralSelectList list = openSelectList();
         list.selectByLabel(label);
     }
 
     /**
-     * Clicks an item by it's value.
+     * Clicks an item by it's value, or selects it with the Coral API in {@link CoralApi} mode.
      *
      * @param value value of the targeted item in this select.
      */
     public void selectItemByValue(final String value) {
+        if (CoralApi.select(element(), "value", value)) {
+            return;
+        }
         CoralSelectList list = openSelectList();
         list.selectByValue(value);
     }
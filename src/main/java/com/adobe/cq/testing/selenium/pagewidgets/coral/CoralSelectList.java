@@ -17,11 +17,18 @@
 package com.adobe.cq.testing.selenium.pagewidgets.coral;
 
 import com.adobe.cq.testing.selenium.pagewidgets.common.BaseComponent;
-import com.codeborne.selenide.Condition;
+import com.adobe.cq.testing.selenium.utils.BrowserRuntime;
+import com.adobe.cq.testing.selenium.utils.WaitScheduler;
+import com.codeborne.selenide.Configuration;
 import com.codeborne.selenide.ElementsCollection;
 import com.codeborne.selenide.SelenideElement;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebElement;
+
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.adobe.cq.testing.selenium.utils.ElementUtils.clickableClick;
+import static com.codeborne.selenide.Selenide.$;
 
 public final class CoralSelectList extends BaseComponent {
 
@@ -103,10 +110,7 @@ public final class CoralSelectList extends BaseComponent {
      * @param value - the value of the item in the rail toggle.
      */
     public void selectByValue(final String value) {
-        final SelenideElement item = getItemByValue(value);
-        if (item != null) {
-            clickableClick(item);
-        }
+        clickableClick(findItem("value", value));
     }
 
     /**
@@ -128,11 +132,30 @@ public final class CoralSelectList extends BaseComponent {
      * @param label - the selector of the item in the rail toggle.
      */
     public void selectByLabel(final String label) {
-        ElementsCollection elements = items();
-        final SelenideElement item = elements.find(Condition.text(label));
-        if (item != null) {
-            clickableClick(item);
+        clickableClick(findItem("label", label));
+    }
+
+    /**
+     * Find an item in the page, groups included, and scroll it into view. A label matches the first visible item
+     * containing it, ignoring case, an item with the exact label winning when several contain it.
+     *
+     * @param by value or label.
+     * @param key the value or label of the item.
+     * @return the item element.
+     * @throws NoSuchElementException if no item is found before the timeout.
+     */
+    private SelenideElement findItem(final String by, final String key) {
+        final AtomicReference<WebElement> item = new AtomicReference<>();
+        WaitScheduler.until("selectListItem", key,
+                () -> {
+                    item.set(BrowserRuntime.call("findListItem", element(), SELECTOR_ITEM_ELEMENT, by, key));
+                    return item.get() != null;
+                },
+                Configuration.timeout);
+        if (item.get() == null) {
+            throw new NoSuchElementException(String.format("No item with %s %s in %s", by, key, element()));
         }
+        return $(item.get());
     }
 
     /**
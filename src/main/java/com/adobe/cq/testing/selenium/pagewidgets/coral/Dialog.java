@@ -17,13 +17,27 @@
 package com.adobe.cq.testing.selenium.pagewidgets.coral;
 
 import com.adobe.cq.testing.selenium.pagewidgets.common.BaseComponent;
+import com.adobe.cq.testing.selenium.utils.BrowserRuntime;
+import com.codeborne.selenide.Configuration;
 import com.codeborne.selenide.SelenideElement;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import static com.adobe.cq.testing.selenium.pagewidgets.coral.VariantAccessor.VariantType.*;
+import static com.adobe.cq.testing.selenium.utils.ElementUtils.clickableClick;
 import static com.codeborne.selenide.Selenide.$;
 
 public class Dialog extends BaseComponent {
 
+    private static final Logger LOG = LoggerFactory.getLogger(Dialog.class);
+
     protected VariantAccessor variantAccessor;
 
     /**
@@ -128,4 +142,82 @@ public class Dialog extends BaseComponent {
     public SelenideElement button(final VariantAccessor.VariantType variantType) {
         return variantAccessor.find(variantType);
     }
+
+    /**
+     * Fill the fields of this dialog in a single call: text fields, text areas, checkboxes, switches, selects and
+     * other Coral fields get their value set with change events, a multifield gets one item per value of a list.
+     * Fields requiring keystrokes, like rich text, are typed afterwards.
+     * @param values the value of each field by field name, i.e {@code ./jcr:title}: a String, a Boolean for
+     *               checkboxes, a List for multifields
+     * @return the result of each field by field name, in the order of the values
+     */
+    public Map<String, FillStatus> fill(final Map<String, Object> values) {
+        final List<String> names = new ArrayList<>(values.keySet());
+        final List<Map<String, Object>> fields = new ArrayList<>();
+        names.forEach(name -> {
+            final Map<String, Object> field = new LinkedHashMap<>();
+            field.put("name", name);
+            field.put("value", values.get(name));
+            fields.add(field);
+        });
+        final List<Map<String, Object>> results = BrowserRuntime.callAsync("fillForm", element(), fields,
+                Configuration.timeout);
+        final Map<String, FillStatus> statuses = new LinkedHashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            final String name = names.get(i);
+            final Map<String, Object> result = results.get(i);
+            final FillStatus status;
+            switch ((String) result.get("status")) {
+                case "set":
+                    status = FillStatus.SET;
+                    break;
+                case "missing":
+                    status = FillStatus.MISSING;
+                    break;
+                case "typing":
+                    status = type((WebElement) result.get("target"), Boolean.TRUE.equals(result.get("editable")),
+                            values.get(name));
+                    break;
+                default:
+                    status = FillStatus.FAILED;
+            }
+            if (status != FillStatus.SET && status != FillStatus.TYPED) {
+                LOG.warn("Field {} not filled: {} {}", name, status, result.get("reason"));
+            }
+            statuses.put(name, status);
+        }
+        return statuses;
+    }
+
+    private static FillStatus type(final WebElement target, final boolean contentEditable, final Object value) {
+        final SelenideElement field = $(target);
+        try {
+            if (contentEditable) {
+                clickableClick(field);
+                // selected in the page rather than with a select all chord, which differs on macOS
+                BrowserRuntime.call("selectContents", target);
+                field.sendKeys(String.valueOf(value));
+            } else {
+                field.setValue(String.valueOf(value));
+            }
+            return FillStatus.TYPED;
+        } catch (WebDriverException | AssertionError e) {
+            LOG.debug("Cannot type in {}: {}", field, e.getMessage());
+            return FillStatus.FAILED;
+        }
+    }
+
+    /**
+     * Result of filling a field with {@link #fill(Map)}.
+     */
+    public enum FillStatus {
+        /** The value was set in the browser. */
+        SET,
+        /** The value was typed. */
+        TYPED,
+        /** No field has this name in the dialog. */
+        MISSING,
+        /** The field could not be filled with this value. */
+        FAILED
+    }
 }
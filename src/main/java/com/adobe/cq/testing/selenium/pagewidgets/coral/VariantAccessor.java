@@ -46,7 +46,7 @@ public class VariantAccessor extends BaseComponent {
      */
     public ElementsCollection findAll(final VariantType variantType, String tag) {
         final SelenideElement currentElement = element();
-        return currentElement.findAll(tag + "[" + VARIANT_ATTRIBUTE + "=\"" + variantType.toString() + "\"]");
+        return currentElement.findAll(variantSelector(variantType, tag));
     }
 
     /**
@@ -57,16 +57,24 @@ public class VariantAccessor extends BaseComponent {
         return findAll(variantType, "");
     }
 
+    /**
+     * Click the first button or link of the variant, found with a single selector query.
+     * @param variantType the variant attribute value.
+     */
     public void clickVariant(final VariantType variantType) {
-        ElementsCollection variantElements = findAll(variantType);
-        SelenideElement clickableVariantElement = variantElements.stream()
-                .filter(selenideElement -> selenideElement.getTagName().equals("button") ||
-                        selenideElement.getTagName().equals("a"))
-                .findFirst().get();
-        clickableClick(clickableVariantElement
+        clickableClick(element().$(clickableSelector(variantType))
                 .shouldBe(Condition.visible, Condition.enabled));
     }
 
+    // selector of the clickable elements of the variant, buttons and links
+    private static String clickableSelector(final VariantType variantType) {
+        return variantSelector(variantType, "button") + ", " + variantSelector(variantType, "a");
+    }
+
+    private static String variantSelector(final VariantType variantType, final String tag) {
+        return tag + "[" + VARIANT_ATTRIBUTE + "=\"" + variantType.toString() + "\"]";
+    }
+
     public boolean isVariant(final VariantType variantType) {
         return element().has(Condition.attribute(VARIANT_ATTRIBUTE, variantType.toString()));
     }
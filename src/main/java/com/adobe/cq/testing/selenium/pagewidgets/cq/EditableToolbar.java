@@ -19,11 +19,14 @@ package com.adobe.cq.testing.selenium.pagewidgets.cq;
 import com.adobe.cq.testing.selenium.pageobject.EditorPage;
 import com.adobe.cq.testing.selenium.pagewidgets.common.ActionComponent;
 import com.adobe.cq.testing.selenium.pagewidgets.common.BaseComponent;
+import com.adobe.cq.testing.selenium.pagewidgets.common.ButtonState;
 import com.adobe.cq.testing.selenium.pagewidgets.coral.Dialog;
 import com.codeborne.selenide.Condition;
 import com.codeborne.selenide.ElementsCollection;
 import com.codeborne.selenide.SelenideElement;
 
+import java.util.EnumMap;
+
 import static com.adobe.cq.testing.selenium.pagewidgets.Helpers.clickBaseComponentAction;
 import static com.adobe.cq.testing.selenium.pagewidgets.Helpers.clickDialogAction;
 import static com.adobe.cq.testing.selenium.utils.ElementUtils.clickableClick;
@@ -74,6 +77,13 @@ public class EditableToolbar extends BaseComponent {
 
     public SelenideElement getButton(EditableToolbarAction editableToolbarAction) { return editableToolbarAction.getButton(); }
 
+    /**
+     * @return the state of the button of each action, read in a single call.
+     */
+    public EnumMap<EditableToolbarAction, ButtonState> snapshot() {
+        return ButtonState.snapshot(EditableToolbarAction.class, EDITABLETOOLBAR_IDENTIFIER, EditableToolbarAction::getSelector);
+    }
+
     public SelenideElement getInsertButton() { return insertButton.element(); }
     public SelenideElement getConfigureButton() { return configureButton.element(); }
     public SelenideElement getParentButton() { return parentButton; }
@@ -17,15 +17,18 @@
 package com.adobe.cq.testing.selenium.pagewidgets.cq;
 
 import com.adobe.cq.testing.selenium.pagewidgets.common.BaseComponent;
+import com.adobe.cq.testing.selenium.utils.BrowserRuntime;
+import com.adobe.cq.testing.selenium.utils.FrameContext;
 import com.codeborne.selenide.Condition;
 import com.codeborne.selenide.SelenideElement;
 import org.openqa.selenium.NoSuchElementException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.function.Supplier;
+
 import static com.adobe.cq.testing.selenium.utils.ElementUtils.clickableClick;
 import static com.codeborne.selenide.Selenide.$;
-import static com.codeborne.selenide.Selenide.switchTo;
 
 public class InlineEditor extends BaseComponent {
 
@@ -63,28 +66,43 @@ public class InlineEditor extends BaseComponent {
 
     public RichTextToolbar getRichTextToolbar() { return richTextToolbar; }
 
+    /**
+     * Sequence of rich text steps on the edited text, run in a single call, faster than typing and clicking the
+     * toolbar for each step.
+     * @return a new {@link RichTextSequence}
+     */
+    public RichTextSequence sequence() {
+        return new RichTextSequence(CONTENT_FRAME, TEXT_CONTENT_EDITABLE_SELECTOR);
+    }
+
+    /**
+     * Read the text through the content frame window without switching to it, falls back to waiting for the text in
+     * the frame when not found.
+     * @return the visible text, empty when the inline editor is not open.
+     */
     public String getTextContent() {
-        return setOrGetTextContent(null);
+        final String textContent = BrowserRuntime.callInFrame(CONTENT_FRAME, "textOf", TEXT_CONTENT_EDITABLE_SELECTOR);
+        if (textContent != null) {
+            return textContent;
+        }
+        return inContentFrame(() -> $(TEXT_CONTENT_EDITABLE_SELECTOR).should(Condition.exist).getText());
     }
 
+    /**
+     * Set the text in the content frame, and read it back before switching back to the default content.
+     * @param textContent the new text
+     * @return the visible text once set, empty when the inline editor is not open.
+     */
     public String setTextContent(String textContent) {
-        return setOrGetTextContent(textContent);
+        return inContentFrame(() -> $(TEXT_CONTENT_EDITABLE_SELECTOR).should(Condition.exist).setValue(textContent).getText());
     }
 
-    private String setOrGetTextContent(String textContent) {
-        switchTo().frame(CONTENT_FRAME);
-        String newTextContent = "";
+    private String inContentFrame(Supplier<String> operation) {
         try {
-            if (textContent == null) {
-                newTextContent = $(TEXT_CONTENT_EDITABLE_SELECTOR).should(Condition.exist).getText();
-            } else {
-                newTextContent = $(TEXT_CONTENT_EDITABLE_SELECTOR).should(Condition.exist).setValue(textContent).getText();
-            }
+            return FrameContext.call(CONTENT_FRAME, operation);
         } catch (NoSuchElementException nse) {
             LOG.warn("No inline editing element found - open inline editor first by click to editable toolbar edit button: " + nse.getLocalizedMessage());
-        } finally {
-            switchTo().defaultContent();
+            return "";
         }
-        return newTextContent;
     }
 }
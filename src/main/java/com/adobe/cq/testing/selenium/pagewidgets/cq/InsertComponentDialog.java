@@ -18,19 +18,42 @@ package com.adobe.cq.testing.selenium.pagewidgets.cq;
 
 import com.adobe.cq.testing.selenium.pagewidgets.coral.CoralSelectList;
 import com.adobe.cq.testing.selenium.pagewidgets.coral.Dialog;
+import com.adobe.cq.testing.selenium.utils.DomSnapshot;
 import com.codeborne.selenide.Condition;
 import com.codeborne.selenide.ElementsCollection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import static com.adobe.cq.testing.selenium.pagewidgets.Helpers.waitForListSizeChange;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.adobe.cq.testing.selenium.pagewidgets.Helpers.waitDOMIdled;
 import static com.adobe.cq.testing.selenium.utils.ElementUtils.clickableClick;
 
 public class InsertComponentDialog extends Dialog {
 
+    private static final Logger LOG = LoggerFactory.getLogger(InsertComponentDialog.class);
+
     private static final String CSS_SELECTOR = "coral-dialog.InsertComponentDialog";
     private static final String SEARCH_FIELD = "input[type='search']";
     private static final String CLOSE_BUTTON = "button[handle='closeButton']";
+    private static final String COMPONENT_LIST = CSS_SELECTOR + " coral-selectlist";
+    private static final String COMPONENT_ITEM = "coral-selectlist-item";
+    // quiet window of the component list after a search, covers the debounce of the search field
+    private static final long FILTER_QUIET_WINDOW = 250;
+
+    private static final DomSnapshot.Field VALUE = DomSnapshot.Field.attribute("value");
+    private static final DomSnapshot.Field TITLE =
+            DomSnapshot.Field.descendant("coral-selectlist-item-content", DomSnapshot.Field.property("textContent"));
+    private static final DomSnapshot.Field GROUP =
+            DomSnapshot.Field.ancestor("coral-selectlist-group", DomSnapshot.Field.attribute("label"));
 
     private CoralSelectList componentList = new CoralSelectList(element());
+    private Map<String, ComponentItem> componentIndex;
 
     public InsertComponentDialog() { super(CSS_SELECTOR); }
 
@@ -39,6 +62,9 @@ public class InsertComponentDialog extends Dialog {
      * @param resourceType resource type to select a component
      */
     public void selectComponent(String resourceType) {
+        if (componentIndex != null && !componentIndex.containsKey(resourceType)) {
+            LOG.warn("Component {} is not listed in the dialog", resourceType);
+        }
         clickableClick(componentList.getItemByValue(resourceType));
         element().shouldNotBe(Condition.visible);
     }
@@ -55,6 +81,7 @@ public class InsertComponentDialog extends Dialog {
      * closes the Current Dialg
      */
     public void close() {
+        componentIndex = null;
         clickableClick(element().find(CLOSE_BUTTON));
         element().shouldNotBe(Condition.visible);
     }
@@ -65,10 +92,82 @@ public class InsertComponentDialog extends Dialog {
      * @return Collection of Elements which met the search
      */
     public ElementsCollection search(String searchText) {
-        int initialSize = getComponentList().size();
+        getComponentIndex();
         element().find(SEARCH_FIELD).setValue(searchText);
-        waitForListSizeChange(initialSize, getComponentList(), 1000);
+        waitDOMIdled(FILTER_QUIET_WINDOW, COMPONENT_LIST);
         return getComponentList();
     }
 
+    /**
+     * Index of the components of the dialog, read in a single call the first time it's used once the list settled.
+     * @return the components by resource type, in the list order
+     */
+    public Map<String, ComponentItem> getComponentIndex() {
+        if (componentIndex == null) {
+            componentList.element().shouldBe(Condition.visible);
+            waitDOMIdled(FILTER_QUIET_WINDOW, COMPONENT_LIST);
+            final Map<String, ComponentItem> index = new LinkedHashMap<>();
+            DomSnapshot.of(componentList.element(), COMPONENT_ITEM, VALUE, TITLE, GROUP)
+                    .forEach(item -> index.put(item.getString(VALUE),
+                            new ComponentItem(item.getString(VALUE), item.getString(TITLE), item.getString(GROUP))));
+            componentIndex = Collections.unmodifiableMap(index);
+        }
+        return componentIndex;
+    }
+
+    /**
+     * Find components in the index, without filtering the list of the dialog.
+     * @param searchText text searched, ignoring case, in the title and the group of the components
+     * @return the matching components, in the list order
+     */
+    public List<ComponentItem> findComponents(final String searchText) {
+        final String text = searchText.toLowerCase(Locale.ROOT);
+        return getComponentIndex().values().stream()
+                .filter(item -> item.getTitle().toLowerCase(Locale.ROOT).contains(text)
+                        || item.getGroup().toLowerCase(Locale.ROOT).contains(text))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * A component listed in the dialog.
+     */
+    public static final class ComponentItem {
+
+        private final String resourceType;
+        private final String title;
+        private final String group;
+
+        private ComponentItem(final String resourceType, final String title, final String group) {
+            this.resourceType = resourceType;
+            this.title = title == null ? "" : title.trim();
+            this.group = group == null ? "" : group;
+        }
+
+        /**
+         * @return resource type of the component, the value of its item.
+         */
+        public String getResourceType() {
+            return resourceType;
+        }
+
+        /**
+         * @return title of the component.
+         */
+        public String getTitle() {
+            return title;
+        }
+
+        /**
+         * @return label of the component group, empty without group.
+         */
+        public String getGroup() {
+            return group;
+        }
+
+        @Override
+        public String toString() {
+            return title + " (" + resourceType + ")";
+        }
+    }
+
 }
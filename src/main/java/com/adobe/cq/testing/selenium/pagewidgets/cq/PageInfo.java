@@ -18,10 +18,13 @@ package com.adobe.cq.testing.selenium.pagewidgets.cq;
 
 import com.adobe.cq.testing.selenium.pagewidgets.common.ActionComponent;
 import com.adobe.cq.testing.selenium.pagewidgets.common.BaseComponent;
+import com.adobe.cq.testing.selenium.pagewidgets.common.ButtonState;
 import com.adobe.cq.testing.selenium.pagewidgets.coral.Dialog;
 import com.adobe.cq.testing.selenium.utils.ExpectNav;
 import com.codeborne.selenide.SelenideElement;
 
+import java.util.EnumMap;
+
 import static com.adobe.cq.testing.selenium.pagewidgets.Helpers.clickDialogAction;
 import static com.adobe.cq.testing.selenium.pagewidgets.coral.CoralReady.waitCoralReady;
 import static com.adobe.cq.testing.selenium.utils.ElementUtils.clickableClick;
@@ -59,27 +62,27 @@ public final class PageInfo extends BaseComponent {
     private static final String PAGE_POLICY = "Page Policy";
     private static final String PUBLISH_TEMPLATE = "Publish Template";
 
-    private SelenideElement buttonPageProps = $("button[title='" + OPEN_PROPERTIES + "']");
-    private SelenideElement buttonRolloutPage = $("button[title='" + ROLLOUT_PAGE + "']");
-    private SelenideElement buttonStartWorkflow = $("button[title='" + START_WORKFLOW + "']");
-    private SelenideElement buttonLockPage = $("button[title='" + LOCK_PAGE + "']");
-    private SelenideElement buttonUnlockPage = $("button[title='" + UNLOCK_PAGE + "']");
-    private SelenideElement buttonPublishPage = $("button[title='" + PUBLISH_PAGE + "']");
-    private SelenideElement buttonRequestPublication = $("button[title='" + REQUEST_PUBLICATION + "']");
-    private SelenideElement buttonUnpublishPage = $("button[title='" + UNPUBLISH_PAGE + "']");
-    private SelenideElement buttonRequestUnpublication = $("button[title='" + REQUEST_UNPUBLICATION + "']");
-    private SelenideElement buttonPromoteLaunch = $("button[title='" + PROMOTE_LAUNCH + "']");
-    private SelenideElement buttonOpenAnalytics = $("button[title='" + OPEN_ANALYTICS + "']");
-    private SelenideElement buttonEditTemplate = $("button[title='" + EDIT_TEMPLATE + "']");
-    private SelenideElement buttonViewAsPublished = $("button[title='" + VIEW_AS_PUBLISHED + "']");
-    private SelenideElement buttonViewInAdmin = $("button[title='" + VIEW_IN_ADMIN + "']");
-    private SelenideElement buttonOpenInClassic = $("button[title='" + OPEN_IN_CLASSIC + "']");
-    private SelenideElement buttonHelp = $("button[title='" + HELP + "']");
-
-    private SelenideElement buttonInitialPageProps = $("button[title='" + INITIAL_PAGE_PROPERTIES + "']");
-    private SelenideElement buttonPagePolicy = $("button[title='" + PAGE_POLICY + "']");
-    private ActionComponent<PolicyDialog> pagePolicyButton = new ActionComponent("button[title='" + PAGE_POLICY + "']", () -> new PolicyDialog(), false);
-    private SelenideElement buttonPublishTemplate = $("button[title='" + PUBLISH_TEMPLATE + "']");
+    private SelenideElement buttonPageProps = $(PageInfoAction.OPEN_PROPERTIES.getSelector());
+    private SelenideElement buttonRolloutPage = $(PageInfoAction.ROLLOUT_PAGE.getSelector());
+    private SelenideElement buttonStartWorkflow = $(PageInfoAction.START_WORKFLOW.getSelector());
+    private SelenideElement buttonLockPage = $(PageInfoAction.LOCK_PAGE.getSelector());
+    private SelenideElement buttonUnlockPage = $(PageInfoAction.UNLOCK_PAGE.getSelector());
+    private SelenideElement buttonPublishPage = $(PageInfoAction.PUBLISH_PAGE.getSelector());
+    private SelenideElement buttonRequestPublication = $(PageInfoAction.REQUEST_PUBLICATION.getSelector());
+    private SelenideElement buttonUnpublishPage = $(PageInfoAction.UNPUBLISH_PAGE.getSelector());
+    private SelenideElement buttonRequestUnpublication = $(PageInfoAction.REQUEST_UNPUBLICATION.getSelector());
+    private SelenideElement buttonPromoteLaunch = $(PageInfoAction.PROMOTE_LAUNCH.getSelector());
+    private SelenideElement buttonOpenAnalytics = $(PageInfoAction.OPEN_ANALYTICS.getSelector());
+    private SelenideElement buttonEditTemplate = $(PageInfoAction.EDIT_TEMPLATE.getSelector());
+    private SelenideElement buttonViewAsPublished = $(PageInfoAction.VIEW_AS_PUBLISHED.getSelector());
+    private SelenideElement buttonViewInAdmin = $(PageInfoAction.VIEW_IN_ADMIN.getSelector());
+    private SelenideElement buttonOpenInClassic = $(PageInfoAction.OPEN_IN_CLASSIC.getSelector());
+    private SelenideElement buttonHelp = $(PageInfoAction.HELP.getSelector());
+
+    private SelenideElement buttonInitialPageProps = $(PageInfoAction.INITIAL_PAGE_PROPERTIES.getSelector());
+    private SelenideElement buttonPagePolicy = $(PageInfoAction.PAGE_POLICY.getSelector());
+    private ActionComponent<PolicyDialog> pagePolicyButton = new ActionComponent(PageInfoAction.PAGE_POLICY.getSelector(), () -> new PolicyDialog(), false);
+    private SelenideElement buttonPublishTemplate = $(PageInfoAction.PUBLISH_TEMPLATE.getSelector());
 
     private Dialog unlockPageDialog = new Dialog("coral-dialog");
     private Dialog unpublishPageDialog = new Dialog("coral-dialog");
@@ -225,6 +228,13 @@ public final class PageInfo extends BaseComponent {
     public Dialog clickUnlockPageButton() { return clickDialogAction(getUnLockPageButton(), unlockPageDialog); }
     public Dialog clickUnpublishPageButton() { return clickDialogAction(getUnpublishPageButton(),unpublishPageDialog); }
 
+    /**
+     * @return the state of the button of each action, read in a single call.
+     */
+    public EnumMap<PageInfoAction, ButtonState> snapshot() {
+        return ButtonState.snapshot(PageInfoAction.class, null, PageInfoAction::getSelector);
+    }
+
     /**
      * Click on the button to toggle page info.
      */
@@ -233,4 +243,43 @@ public final class PageInfo extends BaseComponent {
         clickableClick(button, 2000);
     }
 
+    /**
+     * Actions of the page info, identified by the title of their button.
+     */
+    public enum PageInfoAction {
+        OPEN_PROPERTIES(PageInfo.OPEN_PROPERTIES),
+        ROLLOUT_PAGE(PageInfo.ROLLOUT_PAGE),
+        START_WORKFLOW(PageInfo.START_WORKFLOW),
+        LOCK_PAGE(PageInfo.LOCK_PAGE),
+        UNLOCK_PAGE(PageInfo.UNLOCK_PAGE),
+        PUBLISH_PAGE(PageInfo.PUBLISH_PAGE),
+        REQUEST_PUBLICATION(PageInfo.REQUEST_PUBLICATION),
+        UNPUBLISH_PAGE(PageInfo.UNPUBLISH_PAGE),
+        REQUEST_UNPUBLICATION(PageInfo.REQUEST_UNPUBLICATION),
+        PROMOTE_LAUNCH(PageInfo.PROMOTE_LAUNCH),
+        OPEN_ANALYTICS(PageInfo.OPEN_ANALYTICS),
+        EDIT_TEMPLATE(PageInfo.EDIT_TEMPLATE),
+        VIEW_AS_PUBLISHED(PageInfo.VIEW_AS_PUBLISHED),
+        VIEW_IN_ADMIN(PageInfo.VIEW_IN_ADMIN),
+        OPEN_IN_CLASSIC(PageInfo.OPEN_IN_CLASSIC),
+        HELP(PageInfo.HELP),
+        INITIAL_PAGE_PROPERTIES(PageInfo.INITIAL_PAGE_PROPERTIES),
+        PAGE_POLICY(PageInfo.PAGE_POLICY),
+        PUBLISH_TEMPLATE(PageInfo.PUBLISH_TEMPLATE);
+
+        private final String title;
+
+        PageInfoAction(final String title) {
+            this.title = title;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public String getSelector() {
+            return "button[title='" + title + "']";
+        }
+    }
+
 }
@@ -80,7 +80,7 @@ public class PolicyDialog extends Dialog {
 
     public PolicyDialog clickPolicyButton(SelenideElement button) {
         clickableClick(button.shouldBe(Condition.visible, Condition.enabled));
-        Helpers.waitDOMIdled(250);
+        Helpers.waitDOMIdled(250, getCssSelector());
         waitPageUnmasked();
         return this;
     }
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2021 Adobe Systems Incorporated
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.adobe.cq.testing.selenium.pagewidgets.cq;
+
+import com.adobe.cq.testing.selenium.utils.BrowserRuntime;
+import com.adobe.cq.testing.selenium.utils.FrameContext;
+import com.codeborne.selenide.Condition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.codeborne.selenide.Selenide.$;
+
+/**
+ * Sequence of rich text steps run on the text opened in the {@link InlineEditor}, in a single script within the
+ * content frame. Toolbar actions are executed as RTE commands, so only the actions with a
+ * {@link RichTextToolbar.Action#getCommand()} can be part of a sequence.
+ * <p>
+ * Built with {@link InlineEditor#sequence()}, executed with {@link #run()} or {@link #run(String)} to verify the
+ * resulting HTML.
+ */
+public final class RichTextSequence {
+
+    private final String frame;
+    private final String editableSelector;
+    private final List<Map<String, Object>> steps = new ArrayList<>();
+
+    RichTextSequence(final String frame, final String editableSelector) {
+        this.frame = frame;
+        this.editableSelector = editableSelector;
+    }
+
+    /**
+     * @param start offset of the first selected character in the text.
+     * @param end offset after the last selected character.
+     * @return this sequence.
+     */
+    public RichTextSequence select(final int start, final int end) {
+        return add(step("select", "start", start, "end", end));
+    }
+
+    /**
+     * @return this sequence.
+     */
+    public RichTextSequence selectAll() {
+        return add(step("selectAll"));
+    }
+
+    /**
+     * Collapse the selection to its end.
+     * @return this sequence.
+     */
+    public RichTextSequence collapse() {
+        return add(step("collapse"));
+    }
+
+    /**
+     * @param text text replacing the selection.
+     * @return this sequence.
+     */
+    public RichTextSequence type(final String text) {
+        return add(step("type", "text", text));
+    }
+
+    /**
+     * @param html HTML replacing the content of the text.
+     * @return this sequence.
+     */
+    public RichTextSequence html(final String html) {
+        return add(step("html", "html", html));
+    }
+
+    /**
+     * @param actions toolbar actions applied in order on the selection.
+     * @return this sequence.
+     * @throws IllegalArgumentException if an action is not an RTE command.
+     */
+    public RichTextSequence apply(final RichTextToolbar.Action... actions) {
+        for (RichTextToolbar.Action action : actions) {
+            if (action.getCommand() == null) {
+                throw new IllegalArgumentException(action + " is not an RTE command, use RichTextToolbar.clickButton");
+            }
+            add(step("command", "command", action.getCommand(), "execCommand", action.getExecCommand()));
+        }
+        return this;
+    }
+
+    /**
+     * Run the steps.
+     * @return the HTML of the text once all steps are run.
+     * @throws org.openqa.selenium.JavascriptException if a command is not supported by the browser.
+     */
+    public String run() {
+        return FrameContext.call(frame,
+                () -> BrowserRuntime.call("rteSequence", $(editableSelector).should(Condition.exist), steps));
+    }
+
+    /**
+     * Run the steps and verify the resulting HTML once at the end.
+     * @param expectedHtml the expected HTML of the text, compared ignoring the leading and trailing whitespaces.
+     * @return the HTML of the text once all steps are run.
+     * @throws AssertionError if the HTML of the text is not the expected one.
+     */
+    public String run(final String expectedHtml) {
+        final String html = run();
+        if (!expectedHtml.trim().equals(html == null ? null : html.trim())) {
+            throw new AssertionError(String.format("Rich text is %s after %d steps, expected %s", html, steps.size(),
+                    expectedHtml));
+        }
+        return html;
+    }
+
+    /**
+     * @return the steps, as sent to the browser.
+     */
+    public List<Map<String, Object>> getSteps() {
+        return Collections.unmodifiableList(steps);
+    }
+
+    private RichTextSequence add(final Map<String, Object> step) {
+        steps.add(step);
+        return this;
+    }
+
+    private static Map<String, Object> step(final String op, final Object... keyValues) {
+        final Map<String, Object> step = new LinkedHashMap<>();
+        step.put("op", op);
+        for (int i = 0; i < keyValues.length; i += 2) {
+            step.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return step;
+    }
+}
@@ -80,6 +80,46 @@ public class RichTextToolbar extends BaseComponent {
         public String getSelector() {
             return "[data-action='" + action + "']";
         }
+
+        /**
+         * @return the RTE command run by this action, null for the actions opening a popover or a dialog.
+         */
+        public String getCommand() {
+            switch (this) {
+                case FORMAT_BOLD:
+                case FORMAT_ITALIC:
+                case FORMAT_UNDERLINE:
+                case FORMAT_SUBSCRIPT:
+                case FORMAT_SUPERSCRIPT:
+                case JUSTIFY_LEFT:
+                case JUSTIFY_CENTER:
+                case JUSTIFY_RIGHT:
+                case JUSTIFY_JUSTIFY:
+                case LISTS_OUTDENT:
+                case LISTS_INDENT:
+                case UNDO:
+                case REDO:
+                case UNLINK:
+                    return action.substring(action.indexOf('#') + 1);
+                case LISTS_UNORDERED:
+                    return "insertunorderedlist";
+                case LISTS_ORDERED:
+                    return "insertorderedlist";
+                default:
+                    return null;
+            }
+        }
+
+        /**
+         * @return the {@code document.execCommand} name of the RTE command, used without RTE kernel, null for the
+         * actions opening a popover or a dialog.
+         */
+        public String getExecCommand() {
+            if (this == JUSTIFY_JUSTIFY) {
+                return "justifyFull";
+            }
+            return getCommand();
+        }
     }
 
     public RichTextToolbar clickSaveButton() { return clickButton(Action.SAVE); }
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2021 Adobe Systems Incorporated
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.adobe.cq.testing.selenium.utils;
+
+import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.Driver;
+import com.codeborne.selenide.SelenideElement;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A {@link Condition} which can also be evaluated in the browser.
+ * <p>
+ * The common Selenide conditions (visible, hidden, exist, enabled, disabled) are translated by {@link #of(Condition)},
+ * the parameterized ones (cssClass, noCssClass, attribute, text) have to be created by the factories of this class.
+ * Used as a regular condition (i.e in should), it behaves like its Selenide equivalent.
+ */
+public final class BrowserCondition extends Condition {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BrowserCondition.class);
+
+    // Budget of a single async wait in the browser, kept below the default webdriver script timeout.
+    private static final long ASYNC_WAIT_BUDGET = 10000;
+
+    private static final BrowserCondition VISIBLE = new BrowserCondition(Condition.visible, "visible");
+    private static final BrowserCondition HIDDEN = new BrowserCondition(Condition.hidden, "hidden");
+    private static final BrowserCondition EXIST = new BrowserCondition(Condition.exist, "exist");
+    private static final BrowserCondition ENABLED = new BrowserCondition(Condition.enabled, "enabled");
+    private static final BrowserCondition DISABLED = new BrowserCondition(Condition.disabled, "disabled");
+
+    private final Condition delegate;
+    private final String predicate;
+    private final List<Object> arguments;
+
+    private BrowserCondition(final Condition selenideCondition, final String runtimePredicate,
+                             final Object... predicateArguments) {
+        super(selenideCondition.getName(), selenideCondition.missingElementSatisfiesCondition());
+        delegate = selenideCondition;
+        predicate = runtimePredicate;
+        arguments = Collections.unmodifiableList(Arrays.asList(predicateArguments));
+    }
+
+    /**
+     * @return browser condition equivalent to {@link Condition#visible}.
+     */
+    public static BrowserCondition visible() {
+        return VISIBLE;
+    }
+
+    /**
+     * @return browser condition equivalent to {@link Condition#hidden}.
+     */
+    public static BrowserCondition hidden() {
+        return HIDDEN;
+    }
+
+    /**
+     * @return browser condition equivalent to {@link Condition#exist}.
+     */
+    public static BrowserCondition exist() {
+        return EXIST;
+    }
+
+    /**
+     * @return browser condition equivalent to {@link Condition#enabled}.
+     */
+    public static BrowserCondition enabled() {
+        return ENABLED;
+    }
+
+    /**
+     * @return browser condition equivalent to {@link Condition#disabled}.
+     */
+    public static BrowserCondition disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * @param cssClass the expected css class.
+     * @return browser condition equivalent to {@link Condition#cssClass(String)}.
+     */
+    public static BrowserCondition cssClass(final String cssClass) {
+        return new BrowserCondition(Condition.cssClass(cssClass), "cssClass", cssClass);
+    }
+
+    /**
+     * @param cssClass the unexpected css class.
+     * @return browser condition equivalent to {@code Condition.not(Condition.cssClass(cssClass))}.
+     */
+    public static BrowserCondition noCssClass(final String cssClass) {
+        return new BrowserCondition(Condition.not(Condition.cssClass(cssClass)), "noCssClass", cssClass);
+    }
+
+    /**
+     * @param name the expected attribute name.
+     * @return browser condition equivalent to {@link Condition#attribute(String)}.
+     */
+    public static BrowserCondition attribute(final String name) {
+        return new BrowserCondition(Condition.attribute(name), "attribute", name);
+    }
+
+    /**
+     * @param name the expected attribute name.
+     * @param value the expected attribute value.
+     * @return browser condition equivalent to {@link Condition#attribute(String, String)}.
+     */
+    public static BrowserCondition attribute(final String name, final String value) {
+        return new BrowserCondition(Condition.attribute(name, value), "attributeValue", name, value);
+    }
+
+    /**
+     * @param text the expected text, case insensitive and whitespace normalized substring.
+     * @return browser condition equivalent to {@link Condition#text(String)}.
+     */
+    public static BrowserCondition text(final String text) {
+        return new BrowserCondition(Condition.text(text), "text", text);
+    }
+
+    /**
+     * @param condition a Selenide condition.
+     * @return the equivalent browser condition, null if it cannot be translated.
+     */
+    public static BrowserCondition of(final Condition condition) {
+        BrowserCondition translated = null;
+        if (condition instanceof BrowserCondition) {
+            translated = (BrowserCondition) condition;
+        } else if (condition == Condition.visible || condition == Condition.appear || condition == Condition.appears) {
+            translated = VISIBLE;
+        } else if (condition == Condition.hidden || condition == Condition.disappear || condition == Condition.disappears) {
+            translated = HIDDEN;
+        } else if (condition == Condition.exist) {
+            translated = EXIST;
+        } else if (condition == Condition.enabled) {
+            translated = ENABLED;
+        } else if (condition == Condition.disabled) {
+            translated = DISABLED;
+        }
+        return translated;
+    }
+
+    /**
+     * Wait in the browser that the element fulfills the condition, reacting on DOM mutations.
+     *
+     * @param element the element to check.
+     * @param condition the condition to be fulfilled.
+     * @param timeout timeout in milliseconds.
+     * @return true or false if the condition got fulfilled before the timeout, null if it cannot be evaluated
+     * in the browser (not translatable condition, or missing element expected to appear) so callers fall back to polling.
+     */
+    public static Boolean waitFor(final SelenideElement element, final Condition condition, final long timeout) {
+        final BrowserCondition browserCondition = of(condition);
+        if (browserCondition == null) {
+            return null;
+        }
+        final long start = System.currentTimeMillis();
+        final long deadline = start + timeout;
+        int polls = 0;
+        Boolean result = null;
+        try {
+            do {
+                polls++;
+                if (!element.exists()) {
+                    return browserCondition.missingElementSatisfiesCondition() ? Boolean.TRUE : null;
+                }
+                final long budget = Math.max(0, Math.min(deadline - System.currentTimeMillis(), ASYNC_WAIT_BUDGET));
+                Object outcome = BrowserRuntime.callAsync("waitCondition", element.toWebElement(),
+                        browserCondition.getPredicate(), browserCondition.getArguments(), budget);
+                if (Boolean.TRUE.equals(outcome)) {
+                    result = true;
+                } else if (Boolean.FALSE.equals(outcome) && System.currentTimeMillis() >= deadline) {
+                    result = false;
+                }
+            } while (result == null && System.currentTimeMillis() < deadline);
+        } catch (WebDriverException e) {
+            LOG.debug("Cannot evaluate {} in browser due to {}", browserCondition, e.getMessage());
+            return null;
+        } finally {
+            WaitTelemetry.record("browserCondition", element + " " + browserCondition,
+                    System.currentTimeMillis() - start, polls, 0);
+        }
+        return result == null ? Boolean.FALSE : result;
+    }
+
+    /**
+     * @return the name of the browser runtime predicate, called as {@code fn(el, args)}.
+     */
+    String getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * @return the arguments passed as {@code args} to the predicate.
+     */
+    List<Object> getArguments() {
+        return arguments;
+    }
+
+    @Override
+    public boolean apply(final Driver driver, final WebElement element) {
+        return delegate.apply(driver, element);
+    }
+
+    @Override
+    public String actualValue(final Driver driver, final WebElement element) {
+        return delegate.actualValue(driver, element);
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
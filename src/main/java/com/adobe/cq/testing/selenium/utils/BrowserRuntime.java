@@ -0,0 +1,199 @@
+/*
+ * Copyright 2021 Adobe Systems Incorporated
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.adobe.cq.testing.selenium.utils;
+
+import com.codeborne.selenide.Selenide;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.Rectangle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Calls the browser side helpers of the aem-it-runtime.js resource, exposed as {@code window.__aemIt}.
+ * <p>
+ * The runtime is installed in the current document on first use, and installed again when missing (i.e after a
+ * navigation) or outdated. Calls then only send the function name and its arguments.
+ */
+public final class BrowserRuntime {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BrowserRuntime.class);
+
+    private static final String RUNTIME_RESOURCE = "aem-it-runtime.js";
+    private static final String SOURCE = ResourceHelper.readResourceAsString(RUNTIME_RESOURCE);
+    private static final String VERSION = Integer.toHexString(SOURCE.hashCode());
+    private static final String MISSING = "__aemIt:missing";
+    private static final String ERROR = "__aemItError";
+
+    private static final String JS_CALL = ""
+            + "var rt = window.__aemIt;\n"
+            + "if (!rt || rt.version !== arguments[0]) { return '" + MISSING + "'; }\n"
+            + "return rt.fn[arguments[1]].apply(null, arguments[2]);\n";
+
+    private static final String JS_CALL_ASYNC = ""
+            + "var rt = window.__aemIt, name = arguments[1], args = arguments[2], done = arguments[arguments.length - 1];\n"
+            + "if (!rt || rt.version !== arguments[0]) { done('" + MISSING + "'); return; }\n"
+            + "Promise.resolve().then(function () { return rt.fn[name].apply(null, args); }).then(function (result) {\n"
+            + "  done(result === undefined ? null : result);\n"
+            + "}, function (e) {\n"
+            + "  var error = {};\n"
+            + "  error['" + ERROR + "'] = String(e && e.message ? e.message : e);\n"
+            + "  done(error);\n"
+            + "});\n";
+
+    // Declares w, the window of the frame named or identified by the first script argument.
+    static final String JS_FRAME_WINDOW = ""
+            + "var frame = document.getElementById(arguments[0]) || document.getElementsByName(arguments[0])[0];\n"
+            + "if (!frame || !frame.contentWindow) { throw new Error('No frame ' + arguments[0]); }\n"
+            + "var w = frame.contentWindow;\n";
+
+    // The runtime is installed with the Function constructor of the frame, so that it binds to the frame window.
+    private static final String JS_CALL_IN_FRAME = JS_FRAME_WINDOW
+            + "var rt = w.__aemIt;\n"
+            + "if (!rt || rt.version !== arguments[1]) {\n"
+            + "  if (arguments[4] === null) { return '" + MISSING + "'; }\n"
+            + "  new w.Function(arguments[4]).call(w, arguments[1]);\n"
+            + "  rt = w.__aemIt;\n"
+            + "}\n"
+            + "return rt.fn[arguments[2]].apply(null, arguments[3]);\n";
+
+    private BrowserRuntime() {
+    }
+
+    /**
+     * @param function name of the runtime function.
+     * @param arguments arguments of the function.
+     * @param <T> expected result type.
+     * @return the function result.
+     */
+    public static <T> T call(final String function, final Object... arguments) {
+        Object result = Selenide.executeJavaScript(JS_CALL, VERSION, function, Arrays.asList(arguments));
+        if (MISSING.equals(result)) {
+            install();
+            result = Selenide.executeJavaScript(JS_CALL, VERSION, function, Arrays.asList(arguments));
+        }
+        return unchecked(result);
+    }
+
+    /**
+     * @param function name of the runtime function, returning a Promise or a value.
+     * @param arguments arguments of the function.
+     * @param <T> expected result type.
+     * @return the resolved function result.
+     * @throws JavascriptException if the function failed.
+     */
+    public static <T> T callAsync(final String function, final Object... arguments) {
+        Object result = Selenide.executeAsyncJavaScript(JS_CALL_ASYNC, VERSION, function, Arrays.asList(arguments));
+        if (MISSING.equals(result)) {
+            install();
+            result = Selenide.executeAsyncJavaScript(JS_CALL_ASYNC, VERSION, function, Arrays.asList(arguments));
+        }
+        if (result instanceof Map && ((Map<?, ?>) result).containsKey(ERROR)) {
+            throw new JavascriptException(String.format("%s failed: %s", function, ((Map<?, ?>) result).get(ERROR)));
+        }
+        return unchecked(result);
+    }
+
+    /**
+     * Call a runtime function in the window of a frame of the current document, without switching to the frame. The
+     * runtime is installed in the frame when missing.
+     * <p>
+     * Elements can't cross the frame boundary: arguments and result must be plain values, i.e selectors instead of
+     * elements.
+     *
+     * @param frame name or id of the frame.
+     * @param function name of the runtime function.
+     * @param arguments arguments of the function.
+     * @param <T> expected result type.
+     * @return the function result.
+     */
+    public static <T> T callInFrame(final String frame, final String function, final Object... arguments) {
+        Object result = Selenide.executeJavaScript(JS_CALL_IN_FRAME, frame, VERSION, function,
+                Arrays.asList(arguments), null);
+        if (MISSING.equals(result)) {
+            LOG.debug("Installing browser runtime {} in frame {}", VERSION, frame);
+            result = Selenide.executeJavaScript(JS_CALL_IN_FRAME, frame, VERSION, function,
+                    Arrays.asList(arguments), SOURCE);
+        }
+        return unchecked(result);
+    }
+
+    /**
+     * Install the runtime in the current document, unless already installed.
+     */
+    public static void install() {
+        LOG.debug("Installing browser runtime {}", VERSION);
+        Selenide.executeJavaScript(SOURCE, VERSION);
+    }
+
+    /**
+     * @param value an object returned by the runtime, or null.
+     * @return the object as a map, null when null.
+     * @throws ClassCastException if the value is not an object.
+     */
+    public static Map<String, Object> asMap(final Object value) {
+        if (value != null && !(value instanceof Map)) {
+            throw new ClassCastException("Expected an object, got " + value.getClass().getName());
+        }
+        return unchecked(value);
+    }
+
+    /**
+     * @param value an array returned by the runtime, or null.
+     * @return the array as a list, null when null.
+     * @throws ClassCastException if the value is not an array.
+     */
+    public static List<Object> asList(final Object value) {
+        if (value != null && !(value instanceof List)) {
+            throw new ClassCastException("Expected an array, got " + value.getClass().getName());
+        }
+        return unchecked(value);
+    }
+
+    // WebDriver returns JavaScript objects as maps with string keys, and arrays as lists.
+    @SuppressWarnings("unchecked")
+    private static <T> T unchecked(final Object value) {
+        return (T) value;
+    }
+
+    /**
+     * @param value a rect read by the runtime, with x, y, width and height in CSS pixels, or null.
+     * @return the rect as a rectangle, rounded to whole pixels, null when null.
+     */
+    public static Rectangle asRectangle(final Object value) {
+        if (value == null) {
+            return null;
+        }
+        final Map<?, ?> rect = (Map<?, ?>) value;
+        return new Rectangle(pixels(rect.get("x")), pixels(rect.get("y")),
+                pixels(rect.get("height")), pixels(rect.get("width")));
+    }
+
+    private static int pixels(final Object number) {
+        return (int) Math.round(((Number) number).doubleValue());
+    }
+
+    /**
+     * @return the version of the runtime, derived from its source.
+     */
+    public static String getVersion() {
+        return VERSION;
+    }
+}
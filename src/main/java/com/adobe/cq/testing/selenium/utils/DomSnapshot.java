@@ -0,0 +1,271 @@
+/*
+ * Copyright 2021 Adobe Systems Incorporated
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.adobe.cq.testing.selenium.utils;
+
+import com.codeborne.selenide.SelenideElement;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.codeborne.selenide.Selenide.$;
+
+/**
+ * Immutable snapshot of an element, read with the other elements matching a selector in a single script execution.
+ * <p>
+ * Only the requested {@link Field}s are read. The snapshot is not updated when the page changes, use
+ * {@link #toSelenideElement()} to interact with the element.
+ */
+public final class DomSnapshot {
+
+    private final int index;
+    private final WebElement element;
+    private final Map<String, Object> values;
+
+    DomSnapshot(final int index, final WebElement element, final Map<String, Object> values) {
+        this.index = index;
+        this.element = element;
+        this.values = Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * @param selector CSS selector of the elements in the document.
+     * @param fields the fields to read.
+     * @return the snapshots of the matching elements, in document order.
+     */
+    public static List<DomSnapshot> of(final String selector, final Field... fields) {
+        return query(null, selector, fields);
+    }
+
+    /**
+     * @param root element in which the elements are searched.
+     * @param selector CSS selector of the elements in root.
+     * @param fields the fields to read.
+     * @return the snapshots of the matching elements, in document order, empty if root doesn't exist.
+     */
+    public static List<DomSnapshot> of(final SelenideElement root, final String selector, final Field... fields) {
+        final WebElement rootElement;
+        try {
+            rootElement = root.toWebElement();
+        } catch (NoSuchElementException e) {
+            return Collections.emptyList();
+        }
+        return query(rootElement, selector, fields);
+    }
+
+    private static List<DomSnapshot> query(final WebElement root, final String selector, final Field... fields) {
+        final List<Map<String, Object>> specs = new ArrayList<>();
+        for (Field field : fields) {
+            specs.add(field.toSpec());
+        }
+        final List<Map<String, Object>> rows = BrowserRuntime.call("snapshot", root, selector, specs);
+        final List<DomSnapshot> snapshots = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            snapshots.add(new DomSnapshot(snapshots.size(), (WebElement) row.get("element"),
+                    new LinkedHashMap<>(BrowserRuntime.asMap(row.get("values")))));
+        }
+        return Collections.unmodifiableList(snapshots);
+    }
+
+    /**
+     * @return position of the element among the matching elements.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * @return the element, as found when taking the snapshot.
+     */
+    public WebElement getElement() {
+        return element;
+    }
+
+    /**
+     * @return the element wrapped to interact with it.
+     */
+    public SelenideElement toSelenideElement() {
+        return $(element);
+    }
+
+    /**
+     * @param field a field of the snapshot.
+     * @return the raw field value, null when missing.
+     */
+    public Object get(final Field field) {
+        if (!values.containsKey(field.key)) {
+            throw new IllegalArgumentException("Field " + field.key + " is not part of the snapshot");
+        }
+        return values.get(field.key);
+    }
+
+    /**
+     * @param field a field of the snapshot.
+     * @return the field value as a string, null when missing.
+     */
+    public String getString(final Field field) {
+        final Object value = get(field);
+        return value == null ? null : String.valueOf(value);
+    }
+
+    /**
+     * @param field a field of the snapshot.
+     * @return true if the field value is true.
+     */
+    public boolean is(final Field field) {
+        return Boolean.TRUE.equals(get(field));
+    }
+
+    /**
+     * @param field a rect field of the snapshot.
+     * @return the bounding rectangle of the element in the viewport, null when missing.
+     */
+    public Rectangle getRect(final Field field) {
+        return BrowserRuntime.asRectangle(get(field));
+    }
+
+    @Override
+    public String toString() {
+        return "DomSnapshot" + values;
+    }
+
+    /**
+     * A value read on each element of a snapshot.
+     */
+    public static final class Field {
+
+        private static final Field TAG = new Field("tag", "tag", null, null, null);
+        private static final Field TEXT = new Field("text", "text", null, null, null);
+        private static final Field VISIBLE = new Field("visible", "visible", null, null, null);
+        private static final Field RECT = new Field("rect", "rect", null, null, null);
+
+        private final String key;
+        private final String kind;
+        private final String name;
+        private final String selector;
+        private final Field field;
+
+        private Field(final String key, final String kind, final String name, final String selector,
+                      final Field field) {
+            this.key = key;
+            this.kind = kind;
+            this.name = name;
+            this.selector = selector;
+            this.field = field;
+        }
+
+        /**
+         * @return the lower case tag name.
+         */
+        public static Field tag() {
+            return TAG;
+        }
+
+        /**
+         * @return the visible text, trimmed, empty for a hidden element.
+         */
+        public static Field text() {
+            return TEXT;
+        }
+
+        /**
+         * @return whether the element is displayed.
+         */
+        public static Field visible() {
+            return VISIBLE;
+        }
+
+        /**
+         * @return the bounding rectangle, see {@link DomSnapshot#getRect(Field)}.
+         */
+        public static Field rect() {
+            return RECT;
+        }
+
+        /**
+         * @param name attribute name.
+         * @return the attribute value, null when missing.
+         */
+        public static Field attribute(final String name) {
+            return new Field("@" + name, "attribute", name, null, null);
+        }
+
+        /**
+         * @param name name of the data attribute, without the data- prefix.
+         * @return the data attribute value, null when missing.
+         */
+        public static Field data(final String name) {
+            return new Field("@data-" + name, "attribute", "data-" + name, null, null);
+        }
+
+        /**
+         * @param name DOM property name, i.e value or checked.
+         * @return the property value, null when missing or not a primitive.
+         */
+        public static Field property(final String name) {
+            return new Field("." + name, "property", name, null, null);
+        }
+
+        /**
+         * @param selector CSS selector of the descendant.
+         * @param field field read on the first matching descendant.
+         * @return the descendant field value, null when no descendant matches.
+         */
+        public static Field descendant(final String selector, final Field field) {
+            return new Field(selector + " " + field.key, "descendant", null, selector, field);
+        }
+
+        /**
+         * @param selector CSS selector of the ancestor.
+         * @param field field read on the closest matching ancestor.
+         * @return the ancestor field value, null when no ancestor matches.
+         */
+        public static Field ancestor(final String selector, final Field field) {
+            return new Field("^" + selector + " " + field.key, "ancestor", null, selector, field);
+        }
+
+        Map<String, Object> toSpec() {
+            final Map<String, Object> spec = new LinkedHashMap<>();
+            spec.put("key", key);
+            spec.put("kind", kind);
+            spec.put("name", name);
+            spec.put("selector", selector);
+            spec.put("field", field == null ? null : field.toSpec());
+            return spec;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof Field && key.equals(((Field) o).key);
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return key;
+        }
+    }
+}
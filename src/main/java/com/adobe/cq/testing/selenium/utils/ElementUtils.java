@@ -17,22 +17,24 @@
 package com.adobe.cq.testing.selenium.utils;
 
 import com.codeborne.selenide.Condition;
-import com.codeborne.selenide.Selenide;
+import com.codeborne.selenide.Configuration;
 import com.codeborne.selenide.SelenideElement;
-import org.awaitility.core.ConditionTimeoutException;
 import org.openqa.selenium.JavascriptException;
 import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.codeborne.selenide.Condition.and;
 import static com.codeborne.selenide.Condition.exist;
 import static com.codeborne.selenide.Selenide.actions;
 import static com.codeborne.selenide.Selenide.screenshot;
-import static org.awaitility.Awaitility.await;
 
 public final class ElementUtils {
 
@@ -43,6 +45,12 @@ public final class ElementUtils {
     private static final long SHORT_TIMEOUT = 500;
     private static long delayBefore = DEFAULT_DELAY_BEFORE;
     private static int DEFAULT_TIMEOUT = 4000;
+    private static final AtomicLong SAVED_SLEEP_TIME = new AtomicLong();
+
+    private static final long CLICK_OBSERVE_BUDGET = 20000;
+    private static final long MIN_REACTION_WINDOW = 100;
+    private static final double REACTION_EWMA_WEIGHT = 0.2;
+    private static volatile double reactionEwma = MIN_REACTION_WINDOW;
 
     private ElementUtils() {
     }
@@ -55,14 +63,57 @@ public final class ElementUtils {
         clickableClick(element, delayBefore);
     }
 
+    /**
+     * Click the element as soon as it is actionable: visible, enabled, not moving and not covered by another element.
+     *
+     * @param element to be clicked
+     * @param delay the max time in millisec to wait for an element covered by another one, also the blind delay
+     *              used when the actionability cannot be checked
+     */
     public static void clickableClick(final SelenideElement element, final long delay) {
-        Condition clickable = and("can be clicked", Condition.visible, Condition.enabled);
-        element.shouldBe(clickable);
-        delayBefore(delay);
+        final WaitTelemetry.Span span = WaitTelemetry.begin();
+        final long start = System.currentTimeMillis();
+        final Condition clickable = and("can be clicked", Condition.visible, Condition.enabled);
+        final Map<String, Object> check = checkActionable(element.should(exist), delay);
+        if (check == null) {
+            element.shouldBe(clickable);
+            delayBefore(delay);
+        } else if (!Boolean.TRUE.equals(check.get("actionable"))) {
+            LOG.debug("{} not actionable ({}), clicking anyway", element, check.get("reason"));
+            element.shouldBe(clickable);
+        }
+        final long saved = Math.max(0, delay - (System.currentTimeMillis() - start));
+        if (check != null && saved > 0) {
+            SAVED_SLEEP_TIME.addAndGet(saved);
+            LOG.debug("Actionability check saved {}ms of sleep before clicking {}", saved, element);
+        }
+        WaitTelemetry.end(span, "clickable", element.toString(), 1, 0);
         actions().moveToElement(element).click().perform();
     }
 
     /**
+     * @return the total sleep time in millisec saved by the actionability check of {@link #clickableClick}.
+     */
+    public static long getSavedSleepTime() {
+        return SAVED_SLEEP_TIME.get();
+    }
+
+    private static Map<String, Object> checkActionable(final SelenideElement element, final long obscuredTimeout) {
+        try {
+            return BrowserRuntime.callAsync("actionable", element.toWebElement(), Configuration.timeout,
+                    obscuredTimeout);
+        } catch (WebDriverException e) {
+            LOG.debug("Cannot check actionability of {} due to {}", element, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Click until the condition is fulfilled. For conditions supported by {@link BrowserCondition} on an existing
+     * conditional element, the page watches the DOM after each driver click and returns as soon as the condition is
+     * fulfilled. When the page didn't react, the condition is still checked for the usual time after the click before
+     * clicking again with the pacing, so that a slow toggle isn't clicked twice.
+     *
      * @param element to be clicked until
      * @param conditionalElement the element to be checked
      * @param expectedCondition the condition to be fulfilled for the conditional element
@@ -73,12 +124,104 @@ public final class ElementUtils {
     public static void clickUntil(final SelenideElement element, final SelenideElement conditionalElement,
                                   final Condition expectedCondition, final long maxRetries,
                                   final long pacing) throws TimeoutException {
+        final AtomicInteger clicks = new AtomicInteger();
+        Boolean passed = clickAndObserve(element, conditionalElement, expectedCondition, maxRetries, pacing, clicks);
+        if (passed == null) {
+            // the clicks already done count in the retries
+            passed = clickUntilPolling(element, conditionalElement, expectedCondition, maxRetries - clicks.get(),
+                    pacing);
+        }
+        if (!passed) {
+            String screenshotFileName = "clickUntilTimeout-" + System.currentTimeMillis();
+            screenshot(screenshotFileName);
+            LOG.error("Timeout reached, created screenshot {}", screenshotFileName);
+            throw new TimeoutException(String.format(MSG_ERR_CLICK_UNTIL, element.toString(),
+                    expectedCondition.toString(), conditionalElement.toString()));
+        }
+    }
+
+    /**
+     * @param clicks incremented on each click done.
+     * @return true or false if the condition got fulfilled, null if the click cannot be observed in the page.
+     */
+    private static Boolean clickAndObserve(final SelenideElement element, final SelenideElement conditionalElement,
+                                           final Condition expectedCondition, final long maxRetries,
+                                           final long pacing, final AtomicInteger clicks) {
+        final BrowserCondition condition = BrowserCondition.of(expectedCondition);
+        if (condition == null || !conditionalElement.exists()) {
+            return null;
+        }
+        final long budget = Math.min(CLICK_OBSERVE_BUDGET, maxRetries * (pacing + SHORT_TIMEOUT));
+        final WaitTelemetry.Span span = WaitTelemetry.begin();
+        final long start = System.currentTimeMillis();
+        Object status = "timeout";
+        try {
+            final WebElement conditional = conditionalElement.toWebElement();
+            while (clicks.get() < maxRetries && System.currentTimeMillis() - start < budget) {
+                if (clicks.get() > 0) {
+                    WaitTelemetry.sleep("clickUntilPacing", pacing);
+                }
+                BrowserRuntime.call("clickArm");
+                actions().moveToElement(element.should(exist)).click().perform();
+                final long clickedAt = System.currentTimeMillis();
+                clicks.incrementAndGet();
+                final Map<String, Object> result = BrowserRuntime.callAsync("clickReaction", conditional,
+                        condition.getPredicate(), condition.getArguments(), getReactionWindow(), SHORT_TIMEOUT,
+                        Math.max(0, budget - (System.currentTimeMillis() - start)));
+                final Object reaction = result.get("reaction");
+                if (reaction instanceof Number && ((Number) reaction).doubleValue() >= 0) {
+                    reactionEwma = REACTION_EWMA_WEIGHT * ((Number) reaction).doubleValue()
+                            + (1 - REACTION_EWMA_WEIGHT) * reactionEwma;
+                }
+                status = result.get("status");
+                if (!"retry".equals(status)) {
+                    break;
+                }
+                // no reaction seen yet: give the click the usual time before clicking again, a toggle clicked twice
+                // would be undone
+                if (WaitScheduler.until("clickUntilCondition", conditionalElement.toString(),
+                        () -> conditionalElement.has(expectedCondition),
+                        Math.max(0, SHORT_TIMEOUT - (System.currentTimeMillis() - clickedAt)))) {
+                    status = "fulfilled";
+                    break;
+                }
+                status = "timeout";
+            }
+        } catch (WebDriverException e) {
+            LOG.debug("Cannot observe click on {} due to {}", element, e.getMessage());
+            status = "detached";
+        }
+        LOG.debug("Clicked {} times on {}, status {}", clicks.get(), element, status);
+        WaitTelemetry.end(span, "clickUntil", element.toString(), clicks.get(), Math.max(0, clicks.get() - 1));
+        if ("fulfilled".equals(status)) {
+            return true;
+        }
+        if ("timeout".equals(status)) {
+            LOG.info("ConditionTimeout " + expectedCondition);
+            return false;
+        }
+        // the page got replaced or the element detached: check the condition before clicking again by polling
+        if (clicks.get() > 0 && WaitScheduler.until("clickUntilCondition", conditionalElement.toString(),
+                () -> conditionalElement.has(expectedCondition), SHORT_TIMEOUT)) {
+            return true;
+        }
+        return null;
+    }
+
+    private static long getReactionWindow() {
+        return Math.max(MIN_REACTION_WINDOW, Math.min(SHORT_TIMEOUT, Math.round(3 * reactionEwma)));
+    }
+
+    private static boolean clickUntilPolling(final SelenideElement element, final SelenideElement conditionalElement,
+                                             final Condition expectedCondition, final long maxRetries,
+                                             final long pacing) {
+        final WaitTelemetry.Span span = WaitTelemetry.begin();
         int retries = 0;
         boolean passed = false;
         while (!passed && (retries < maxRetries)) {
             try {
                 if (!passed) {
-                    Selenide.sleep(pacing);
+                    WaitTelemetry.sleep("clickUntilPacing", pacing);
                     element.should(exist);
                     try {
                         actions().moveToElement(element).click().perform();
@@ -86,13 +229,9 @@ public final class ElementUtils {
                         LOG.warn("Error on click action: " + ex.getMessage());
                     }
                 }
-                if (conditionalElement.has(expectedCondition)) passed = true;
-                try {
-                    await().pollInSameThread()
-                            .timeout(Duration.ofMillis(SHORT_TIMEOUT))
-                            .until(() -> conditionalElement.has(expectedCondition));
-                    passed = true;
-                } catch (ConditionTimeoutException ex) {
+                passed = WaitScheduler.until("clickUntilCondition", conditionalElement.toString(),
+                        () -> conditionalElement.has(expectedCondition), SHORT_TIMEOUT);
+                if (!passed) {
                     LOG.info("ConditionTimeout " + expectedCondition);
                 }
             } catch (JavascriptException e) {
@@ -101,27 +240,33 @@ public final class ElementUtils {
                 retries++;
             }
         }
-        if (!passed) {
-            String screenshotFileName = "clickUntilTimeout-" + System.currentTimeMillis();
-            screenshot(screenshotFileName);
-            LOG.error("Timeout reached, created screenshot {}", screenshotFileName);
-            throw new TimeoutException(String.format(MSG_ERR_CLICK_UNTIL, element.toString(),
-                    expectedCondition.toString(), conditionalElement.toString()));
-        }
+        WaitTelemetry.end(span, "clickUntilPolling", element.toString(), retries, retries - 1);
+        return passed;
     }
 
+    /**
+     * Check the condition until fulfilled or timeout. Conditions supported by {@link BrowserCondition} are awaited
+     * in the browser, others are polled.
+     *
+     * @param element the element to check
+     * @param condition the condition to be fulfilled
+     * @param timeout timeout in millisec
+     * @return true if the condition got fulfilled before the timeout
+     */
     public static boolean hasWithPolling(final SelenideElement element, final Condition condition, int timeout) {
-        boolean result = false;
-        try {
-            await().pollInSameThread()
-                    .timeout(Duration.ofMillis(timeout))
-                    .until(() -> element.has(condition));
-            result = true;
-        } catch (ConditionTimeoutException ex) {
+        Boolean browserResult = BrowserCondition.waitFor(element, condition, timeout);
+        if (browserResult != null) {
+            if (!browserResult) {
+                LOG.info("ConditionTimeout " + condition);
+            }
+            return browserResult;
+        }
+        boolean result = WaitScheduler.until("hasCondition", element + " " + condition, () -> element.has(condition),
+                timeout);
+        if (!result) {
             LOG.info("ConditionTimeout " + condition);
-        } finally {
-            return result;
         }
+        return result;
     }
 
     public static boolean hasWithPolling(final SelenideElement element, final Condition condition) {
@@ -136,6 +281,6 @@ public final class ElementUtils {
     }
 
     public static void delayBefore(final long delay) {
-        Selenide.sleep(delay);
+        WaitTelemetry.sleep("delayBefore", delay);
     }
 }
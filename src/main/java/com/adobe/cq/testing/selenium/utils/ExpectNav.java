@@ -16,40 +16,145 @@
 
 package com.adobe.cq.testing.selenium.utils;
 
+import com.codeborne.selenide.Configuration;
 import com.codeborne.selenide.Selenide;
+import org.openqa.selenium.WebDriverException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import static com.codeborne.selenide.Selenide.Wait;
+import java.util.Collections;
+import java.util.Map;
 
 public final class ExpectNav {
 
     private static final Logger LOG = LoggerFactory.getLogger(ExpectNav.class);
-    private static final String JS_NAV_START = "return performance.timing.navigationStart";
+    private static final String JS_DOCUMENT_STATE = ""
+            + "return { start: performance.timing.navigationStart, readyState: document.readyState,"
+            + " url: location.href };";
+
+    /**
+     * Load state of the new document awaited after a navigation.
+     */
+    public enum LoadState {
+        /** The navigation happened, the new document may still be loading. */
+        NONE("loading"),
+        /** The new document is parsed. */
+        INTERACTIVE("interactive"),
+        /** The new document and its resources are loaded. */
+        COMPLETE("complete");
+
+        private final String readyState;
+
+        LoadState(final String documentReadyState) {
+            readyState = documentReadyState;
+        }
+
+        private static LoadState of(final Object documentReadyState) {
+            for (LoadState state : values()) {
+                if (state.readyState.equals(documentReadyState)) {
+                    return state;
+                }
+            }
+            return NONE;
+        }
+    }
 
     private ExpectNav() {
     }
 
     /**
-     * @param runnable to be executed after taking current timeOrigin, and wait it changed.
+     * @param runnable to be executed after marking the current document, and wait a new document is loaded.
      */
     public static void on(final Runnable runnable) {
-        long beforeTimeOrigin = getNavigationStart();
+        on(runnable, LoadState.NONE);
+    }
+
+    /**
+     * @param runnable to be executed after marking the current document, and wait a new document is loaded.
+     * @param loadState the load state of the new document to wait for.
+     */
+    public static void on(final Runnable runnable, final LoadState loadState) {
+        expect(runnable, loadState, false);
+    }
+
+    /**
+     * @param runnable to be executed after marking the current document, and wait a new document is loaded or a
+     *                 history navigation (pushState, popstate) happened.
+     */
+    public static void onAny(final Runnable runnable) {
+        onAny(runnable, LoadState.NONE);
+    }
+
+    /**
+     * @param runnable to be executed after marking the current document, and wait a new document is loaded or a
+     *                 history navigation (pushState, popstate) happened.
+     * @param loadState the load state of the new document to wait for.
+     */
+    public static void onAny(final Runnable runnable, final LoadState loadState) {
+        expect(runnable, loadState, true);
+    }
+
+    private static void expect(final Runnable runnable, final LoadState loadState, final boolean trackHistory) {
+        final Map<String, Object> before = mark(trackHistory);
+        if (before.get("token") == null) {
+            expectWithoutMark(runnable, loadState, trackHistory);
+            return;
+        }
         runnable.run();
-        Wait().until(webDriver -> {
-            long actualTimeOrigin = getNavigationStart();
-            return actualTimeOrigin > beforeTimeOrigin;
-        });
+        // the async wait in the browser ends with the navigation timeout, it's only retried when interrupted
+        final long timeout = Configuration.timeout;
+        final long deadline = System.currentTimeMillis() + timeout;
+        WaitScheduler.await("navigation", () -> assertNavigated(before, trackHistory, loadState,
+                Math.max(0, deadline - System.currentTimeMillis())), timeout);
+    }
+
+    private static Map<String, Object> mark(final boolean trackHistory) {
+        try {
+            return BrowserRuntime.call("navMark", trackHistory);
+        } catch (WebDriverException e) {
+            LOG.debug("Cannot mark the current document due to {}", e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    // Without a mark, a new document is detected by its navigation start, and a history navigation by the URL.
+    private static void expectWithoutMark(final Runnable runnable, final LoadState loadState,
+                                          final boolean trackHistory) {
+        final Map<String, Object> before = Selenide.executeJavaScript(JS_DOCUMENT_STATE);
+        runnable.run();
+        WaitScheduler.await("navigation", () -> assertDocumentChanged(before, trackHistory, loadState),
+                Configuration.timeout);
+    }
+
+    private static boolean assertDocumentChanged(final Map<String, Object> before, final boolean trackHistory,
+                                                 final LoadState loadState) {
+        try {
+            final Map<String, Object> current = Selenide.executeJavaScript(JS_DOCUMENT_STATE);
+            if (((Number) current.get("start")).longValue() > ((Number) before.get("start")).longValue()) {
+                return LoadState.of(current.get("readyState")).ordinal() >= loadState.ordinal();
+            }
+            return trackHistory && !before.get("url").equals(current.get("url"));
+        } catch (WebDriverException e) {
+            LOG.debug("Navigation detection interrupted due to {}", e.getMessage());
+            return false;
+        }
     }
 
-    private static long getNavigationStart() {
-        long timeOrigin = 0;
+    private static boolean assertNavigated(final Map<String, Object> before, final boolean trackHistory,
+                                           final LoadState loadState, final long budget) {
+        boolean navigated = false;
         try {
-            timeOrigin = Selenide.executeJavaScript(JS_NAV_START);
-        } catch (ClassCastException e) {
-            LOG.debug("Cast exception while reading navigationStart on browser", e);
+            Map<String, Object> result = BrowserRuntime.callAsync("navWait", before.get("token"),
+                    before.get("timeOrigin"), trackHistory, loadState.readyState, budget);
+            navigated = result != null && result.get("navigated") != null;
+            if (navigated) {
+                LOG.debug("Navigation detected: {}", result);
+            }
+        } catch (WebDriverException e) {
+            // expected while the previous document unloads
+            LOG.debug("Navigation detection interrupted due to {}", e.getMessage());
         }
-        return timeOrigin;
+        return navigated;
     }
 
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2021 Adobe Systems Incorporated
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.adobe.cq.testing.selenium.utils;
+
+import com.codeborne.selenide.Selenide;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.Supplier;
+
+/**
+ * Scoped switching to a frame of the top document, i.e the ContentFrame of the editor.
+ * <p>
+ * The driver switches to the frame once per operation and switches back to the default content when the operation
+ * ends, so code out of an operation always runs in the top document. Operations nested in an operation on the same
+ * frame reuse its switch: group consecutive in-frame steps in a single operation to switch only once. Frames are
+ * identified by name or id and must be children of the top document.
+ */
+public final class FrameContext {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FrameContext.class);
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private static final Switcher DRIVER_SWITCHER = new Switcher() {
+        @Override
+        public void enter(final String frame) {
+            Selenide.switchTo().frame(frame);
+        }
+
+        @Override
+        public void leave() {
+            Selenide.switchTo().defaultContent();
+        }
+    };
+
+    private static volatile Switcher switcher = DRIVER_SWITCHER;
+
+    private FrameContext() {
+    }
+
+    /**
+     * Run an operation with the driver switched to the frame.
+     *
+     * @param frame name or id of the frame.
+     * @param operation the operation, using the elements of the frame.
+     */
+    public static void run(final String frame, final Runnable operation) {
+        call(frame, () -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    /**
+     * Call an operation with the driver switched to the frame. Elements returned by the operation belong to the
+     * frame, and are only usable in another operation on the same frame.
+     *
+     * @param frame name or id of the frame.
+     * @param operation the operation, using the elements of the frame.
+     * @param <T> result type.
+     * @return the operation result.
+     * @throws IllegalStateException if called in an operation on another frame.
+     */
+    public static <T> T call(final String frame, final Supplier<T> operation) {
+        final State state = STATE.get();
+        if (state.depth > 0) {
+            if (!state.frame.equals(frame)) {
+                throw new IllegalStateException("Frame " + frame + " can't be entered from frame " + state.frame);
+            }
+            state.depth++;
+            try {
+                return operation.get();
+            } finally {
+                state.depth--;
+            }
+        }
+        LOG.debug("Entering frame {}", frame);
+        switcher.enter(frame);
+        state.frame = frame;
+        state.depth = 1;
+        try {
+            return operation.get();
+        } finally {
+            state.frame = null;
+            state.depth = 0;
+            LOG.debug("Leaving frame {}", frame);
+            switcher.leave();
+        }
+    }
+
+    /**
+     * Evaluate a script in the window of a frame through the top document, without switching to the frame. Elements
+     * can't cross the frame boundary: arguments and result must be plain values.
+     *
+     * @param frame name or id of the frame.
+     * @param script function body, receiving the frame window and document as {@code win} and {@code doc} and the
+     *               arguments as {@code args}.
+     * @param arguments arguments of the script.
+     * @param <T> expected result type.
+     * @return the script result.
+     */
+    public static <T> T evaluate(final String frame, final String script, final Object... arguments) {
+        return Selenide.executeJavaScript(BrowserRuntime.JS_FRAME_WINDOW
+                + "return new w.Function('win', 'doc', 'args', arguments[1]).call(w, w, w.document, arguments[2]);\n",
+                frame, script, arguments);
+    }
+
+    /**
+     * @return name or id of the frame of the current operation, null out of an operation.
+     */
+    public static String getCurrentFrame() {
+        return STATE.get().frame;
+    }
+
+    /**
+     * @param frameSwitcher the switcher of the driver, null for the Selenide driver.
+     */
+    static void setSwitcher(final Switcher frameSwitcher) {
+        switcher = frameSwitcher == null ? DRIVER_SWITCHER : frameSwitcher;
+    }
+
+    /**
+     * Switches the driver between the top document and a frame, replaced by tests to run without a browser.
+     */
+    interface Switcher {
+
+        /**
+         * @param frame name or id of the frame to switch to.
+         */
+        void enter(String frame);
+
+        /**
+         * Switch back to the top document.
+         */
+        void leave();
+    }
+
+    private static final class State {
+        private String frame;
+        private int depth;
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2021 Adobe Systems Incorporated
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.adobe.cq.testing.selenium.utils;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.Selenide;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Polling scheduler shared by the wait helpers.
+ * <p>
+ * A wait checks its condition at once, then polls with intervals starting at {@link #MIN_INTERVAL} and doubling up
+ * to {@link #MAX_INTERVAL}. The settle time of each wait type is learned during the run, so that the first poll is
+ * delayed up to the time this wait type usually needs.
+ */
+public final class WaitScheduler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WaitScheduler.class);
+
+    public static final long MIN_INTERVAL = 25;
+    public static final long MAX_INTERVAL = 1000;
+
+    private static final int BACKOFF_FACTOR = 2;
+    private static final double LEARNING_RATE = 0.3;
+    // Part of the typical settle time skipped before polling, keeps some margin for faster than usual waits.
+    private static final double SETTLE_TIME_RATIO = 0.8;
+
+    private static final Map<String, Double> SETTLE_TIMES = new ConcurrentHashMap<>();
+
+    static final Clock SYSTEM_CLOCK = new Clock() {
+        @Override
+        public long millis() {
+            return System.currentTimeMillis();
+        }
+
+        @Override
+        public void sleep(final long millis) {
+            Selenide.sleep(millis);
+        }
+    };
+
+    private static volatile Clock clock = SYSTEM_CLOCK;
+
+    private WaitScheduler() {
+    }
+
+    /**
+     * Wait until the condition is fulfilled, with the default Selenide timeout.
+     *
+     * @param waitType the type of wait, used to learn its settle time.
+     * @param condition the condition to be fulfilled.
+     * @throws TimeoutException if the condition is not fulfilled before the timeout.
+     */
+    public static void await(final String waitType, final BooleanSupplier condition) {
+        await(waitType, condition, Configuration.timeout);
+    }
+
+    /**
+     * Wait until the condition is fulfilled.
+     *
+     * @param waitType the type of wait, used to learn its settle time.
+     * @param condition the condition to be fulfilled.
+     * @param timeout timeout in milliseconds.
+     * @throws TimeoutException if the condition is not fulfilled before the timeout.
+     */
+    public static void await(final String waitType, final BooleanSupplier condition, final long timeout) {
+        await(waitType, null, condition, timeout);
+    }
+
+    /**
+     * Wait until the condition is fulfilled.
+     *
+     * @param waitType the type of wait, used to learn its settle time.
+     * @param target the awaited element or selector reported by {@link WaitTelemetry}, may be null.
+     * @param condition the condition to be fulfilled.
+     * @param timeout timeout in milliseconds.
+     * @throws TimeoutException if the condition is not fulfilled before the timeout.
+     */
+    public static void await(final String waitType, final String target, final BooleanSupplier condition,
+                             final long timeout) {
+        if (!until(waitType, target, condition, timeout)) {
+            throw new TimeoutException(String.format("Wait %s not fulfilled after %dms", waitType, timeout));
+        }
+    }
+
+    /**
+     * Wait until the condition is fulfilled, a {@link NotFoundException} thrown by the condition counts as not
+     * fulfilled.
+     *
+     * @param waitType the type of wait, used to learn its settle time.
+     * @param condition the condition to be fulfilled.
+     * @param timeout timeout in milliseconds.
+     * @return true if the condition got fulfilled before the timeout.
+     */
+    public static boolean until(final String waitType, final BooleanSupplier condition, final long timeout) {
+        return until(waitType, null, condition, timeout);
+    }
+
+    /**
+     * Wait until the condition is fulfilled, a {@link NotFoundException} thrown by the condition counts as not
+     * fulfilled.
+     *
+     * @param waitType the type of wait, used to learn its settle time.
+     * @param target the awaited element or selector reported by {@link WaitTelemetry}, may be null.
+     * @param condition the condition to be fulfilled.
+     * @param timeout timeout in milliseconds.
+     * @return true if the condition got fulfilled before the timeout.
+     */
+    public static boolean until(final String waitType, final String target, final BooleanSupplier condition,
+                                final long timeout) {
+        final WaitTelemetry.Span span = WaitTelemetry.begin();
+        final long start = clock.millis();
+        final long deadline = start + timeout;
+        final long settleTime = Math.round(getTypicalSettleTime(waitType) * SETTLE_TIME_RATIO);
+        long interval = MIN_INTERVAL;
+        int polls = 0;
+        while (true) {
+            polls++;
+            if (check(condition)) {
+                final long elapsed = clock.millis() - start;
+                learn(waitType, elapsed);
+                WaitTelemetry.end(span, waitType, target, polls, 0);
+                LOG.debug("Wait {} fulfilled after {}ms and {} polls", waitType, elapsed, polls);
+                return true;
+            }
+            final long now = clock.millis();
+            if (now >= deadline) {
+                WaitTelemetry.end(span, waitType, target, polls, 0);
+                LOG.debug("Wait {} timed out after {} polls", waitType, polls);
+                return false;
+            }
+            final long pause = polls == 1 ? Math.max(interval, settleTime - (now - start)) : interval;
+            clock.sleep(Math.min(pause, deadline - now));
+            interval = Math.min(interval * BACKOFF_FACTOR, MAX_INTERVAL);
+        }
+    }
+
+    /**
+     * @param waitType the type of wait.
+     * @return the typical settle time in milliseconds learned for this wait type, 0 if unknown.
+     */
+    public static double getTypicalSettleTime(final String waitType) {
+        return SETTLE_TIMES.getOrDefault(waitType, 0d);
+    }
+
+    /**
+     * Forget the learned settle times.
+     */
+    public static void reset() {
+        SETTLE_TIMES.clear();
+    }
+
+    /**
+     * @param waitClock the time source and sleeper of the waits, null for the system clock.
+     */
+    static void setClock(final Clock waitClock) {
+        clock = waitClock == null ? SYSTEM_CLOCK : waitClock;
+    }
+
+    private static boolean check(final BooleanSupplier condition) {
+        try {
+            return condition.getAsBoolean();
+        } catch (NotFoundException e) {
+            return false;
+        }
+    }
+
+    private static void learn(final String waitType, final long settleTime) {
+        SETTLE_TIMES.merge(waitType, (double) settleTime,
+                (typical, observed) -> typical + LEARNING_RATE * (observed - typical));
+    }
+
+    /**
+     * Time source and sleeper of the waits, replaced by tests to run the waits without waiting.
+     */
+    interface Clock {
+
+        /**
+         * @return the current time in milliseconds.
+         */
+        long millis();
+
+        /**
+         * @param millis the time to sleep in milliseconds.
+         */
+        void sleep(long millis);
+    }
+}
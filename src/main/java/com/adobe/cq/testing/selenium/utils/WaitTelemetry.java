@@ -0,0 +1,267 @@
+/*
+ * Copyright 2021 Adobe Systems Incorporated
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.adobe.cq.testing.selenium.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per thread accounting of the time spent in waits and sleeps, aggregated by wait type, target and call site.
+ * <p>
+ * Recorded by the wait helpers once enabled, enabled and flushed per test by
+ * {@link com.adobe.cq.testing.selenium.junit.extensions.WaitTelemetryExtension}. A wait containing other waits, i.e
+ * a click retry loop, is measured between {@link #begin()} and {@link #end(Span, String, String, int, int)} and only
+ * accounts its own time, so that the times of the recorded waits add up to the time spent waiting.
+ */
+public final class WaitTelemetry {
+
+    private static final String UNKNOWN_CALL_SITE = "unknown";
+
+    // Helper classes skipped to find the call site of a wait.
+    private static final Set<String> HELPER_CLASSES = new HashSet<>(Arrays.asList(
+            WaitTelemetry.class.getName(),
+            WaitScheduler.class.getName(),
+            ElementUtils.class.getName(),
+            BrowserCondition.class.getName(),
+            ExpectNav.class.getName(),
+            "com.adobe.cq.testing.selenium.pagewidgets.Helpers",
+            "com.adobe.cq.testing.selenium.pagewidgets.coral.CoralReady"));
+
+    private static final ThreadLocal<Map<String, Stats>> STATS = ThreadLocal.withInitial(LinkedHashMap::new);
+    private static final ThreadLocal<Deque<Span>> SPANS = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final ThreadLocal<Boolean> ENABLED = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private static volatile WaitScheduler.Clock clock = WaitScheduler.SYSTEM_CLOCK;
+
+    private WaitTelemetry() {
+    }
+
+    /**
+     * @param enabled true to record the waits of the current thread.
+     */
+    public static void setEnabled(final boolean enabled) {
+        ENABLED.set(enabled);
+    }
+
+    /**
+     * @return true if the waits of the current thread are recorded.
+     */
+    public static boolean isEnabled() {
+        return ENABLED.get();
+    }
+
+    /**
+     * Record a wait measured by the caller, which doesn't contain other recorded waits.
+     *
+     * @param waitType the type of wait.
+     * @param target the awaited element or selector, may be null.
+     * @param elapsed wall time in milliseconds.
+     * @param polls number of checks done.
+     * @param retries number of retried actions.
+     */
+    public static void record(final String waitType, final String target, final long elapsed, final int polls,
+                              final int retries) {
+        if (!isEnabled()) {
+            return;
+        }
+        addToParent(elapsed);
+        add(waitType, target, elapsed, polls, retries);
+    }
+
+    /**
+     * Start measuring a wait which may contain other recorded waits.
+     *
+     * @return the span to pass to {@link #end(Span, String, String, int, int)}.
+     */
+    public static Span begin() {
+        final Span span = new Span(clock.millis());
+        if (isEnabled()) {
+            SPANS.get().push(span);
+        }
+        return span;
+    }
+
+    /**
+     * Record a wait started by {@link #begin()}, without the time of the recorded waits it contains.
+     *
+     * @param span the span returned by {@link #begin()}.
+     * @param waitType the type of wait.
+     * @param target the awaited element or selector, may be null.
+     * @param polls number of checks done.
+     * @param retries number of retried actions.
+     */
+    public static void end(final Span span, final String waitType, final String target, final int polls,
+                           final int retries) {
+        final Deque<Span> spans = SPANS.get();
+        if (!isEnabled() || !spans.contains(span)) {
+            return;
+        }
+        // also drops the inner spans left open by an exception
+        Span top;
+        do {
+            top = spans.pop();
+        } while (top != span);
+        final long elapsed = clock.millis() - span.start;
+        addToParent(elapsed);
+        add(waitType, target, Math.max(0, elapsed - span.childTime), polls, retries);
+    }
+
+    private static void addToParent(final long elapsed) {
+        final Span parent = SPANS.get().peek();
+        if (parent != null) {
+            parent.childTime += elapsed;
+        }
+    }
+
+    private static void add(final String waitType, final String target, final long elapsed, final int polls,
+                            final int retries) {
+        final String callSite = findCallSite();
+        final String key = waitType + '|' + target + '|' + callSite;
+        STATS.get().computeIfAbsent(key, k -> new Stats(waitType, target, callSite))
+                .add(elapsed, polls, retries);
+    }
+
+    /**
+     * Sleep and record it.
+     *
+     * @param sleepType the reason of the sleep.
+     * @param milliseconds time to sleep.
+     */
+    public static void sleep(final String sleepType, final long milliseconds) {
+        final long start = clock.millis();
+        clock.sleep(milliseconds);
+        record(sleepType, null, clock.millis() - start, 0, 0);
+    }
+
+    /**
+     * @param telemetryClock the time source and sleeper of the measures, null for the system clock.
+     */
+    static void setClock(final WaitScheduler.Clock telemetryClock) {
+        clock = telemetryClock == null ? WaitScheduler.SYSTEM_CLOCK : telemetryClock;
+    }
+
+    /**
+     * @return the stats recorded by the current thread since the last reset, slowest first.
+     */
+    public static List<Stats> getStats() {
+        final List<Stats> stats = new ArrayList<>(STATS.get().values());
+        stats.sort((a, b) -> Long.compare(b.getTotalTime(), a.getTotalTime()));
+        return Collections.unmodifiableList(stats);
+    }
+
+    /**
+     * Forget the stats recorded by the current thread.
+     */
+    public static void reset() {
+        STATS.get().clear();
+        SPANS.get().clear();
+    }
+
+    private static String findCallSite() {
+        for (StackTraceElement frame : new Throwable().getStackTrace()) {
+            if (!HELPER_CLASSES.contains(frame.getClassName()) && !frame.getClassName().contains("$$Lambda")) {
+                return frame.getClassName() + '.' + frame.getMethodName() + ':' + frame.getLineNumber();
+            }
+        }
+        return UNKNOWN_CALL_SITE;
+    }
+
+    /**
+     * A wait being measured, see {@link #begin()}.
+     */
+    public static final class Span {
+
+        private final long start;
+        private long childTime;
+
+        private Span(final long startTime) {
+            start = startTime;
+        }
+    }
+
+    /**
+     * Aggregated waits of a type, target and call site.
+     */
+    public static final class Stats {
+
+        private final String type;
+        private final String target;
+        private final String callSite;
+        private int calls;
+        private long totalTime;
+        private long maxTime;
+        private long polls;
+        private long retries;
+
+        private Stats(final String waitType, final String waitTarget, final String waitCallSite) {
+            type = waitType;
+            target = waitTarget;
+            callSite = waitCallSite;
+        }
+
+        private void add(final long elapsed, final int pollCount, final int retryCount) {
+            calls++;
+            totalTime += elapsed;
+            maxTime = Math.max(maxTime, elapsed);
+            polls += pollCount;
+            retries += retryCount;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public String getTarget() {
+            return target;
+        }
+
+        public String getCallSite() {
+            return callSite;
+        }
+
+        public int getCalls() {
+            return calls;
+        }
+
+        /**
+         * @return the time spent in the waits, without the time of the recorded waits they contain.
+         */
+        public long getTotalTime() {
+            return totalTime;
+        }
+
+        public long getMaxTime() {
+            return maxTime;
+        }
+
+        public long getPolls() {
+            return polls;
+        }
+
+        public long getRetries() {
+            return retries;
+        }
+    }
+}
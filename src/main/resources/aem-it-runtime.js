@@ -0,0 +1,1167 @@
+/*
+ * Copyright 2021 Adobe Systems Incorporated
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ * Browser side helpers of the UI testing framework, installed once per document as window.__aemIt by
+ * com.adobe.cq.testing.selenium.utils.BrowserRuntime which calls the functions of window.__aemIt.fn.
+ * Executed as a script body receiving the runtime version as first argument.
+ */
+(function (version) {
+    'use strict';
+
+    if (window.__aemIt && window.__aemIt.version === version) {
+        return;
+    }
+
+    var STATES = ['loading', 'interactive', 'complete'];
+    var MUTATIONS = { childList: true, subtree: true, attributes: true, characterData: true };
+
+    var now = function () {
+        return performance.now();
+    };
+
+    // Next animation frame, or a timer when the document is hidden and animation frames are paused.
+    var nextFrame = function (fn) {
+        if (document.hidden) {
+            setTimeout(fn, 16);
+        } else {
+            window.requestAnimationFrame(fn);
+        }
+    };
+
+    var querySelector = function (selector) {
+        try {
+            return selector ? document.querySelector(selector) : null;
+        } catch (e) {
+            // not a plain CSS selector
+            return null;
+        }
+    };
+
+    // Close to the WebDriver displayed semantic: rendered, not hidden by style on itself or any ancestor.
+    var isVisible = function (el) {
+        if (!el.isConnected) {
+            return false;
+        }
+        for (var n = el; n && n.nodeType === 1; n = n.parentElement) {
+            var style = window.getComputedStyle(n);
+            if (style.display === 'none' || style.opacity === '0' || (n === el && style.visibility !== 'visible')) {
+                return false;
+            }
+        }
+        var rect = el.getBoundingClientRect();
+        return rect.width > 0 && rect.height > 0;
+    };
+
+    // Whitespace normalized lower case text, to compare texts like Selenide text conditions.
+    var normalizeText = function (s) {
+        return String(s || '').replace(/\s+/g, ' ').trim().toLowerCase();
+    };
+
+    // Tracker counting in-flight fetch/XHR requests and recording the last network activity, installed once per document.
+    var networkTracker = function (excludes) {
+        var t = window.__aemItNetwork;
+        if (!t) {
+            t = window.__aemItNetwork = { inflight: 0, last: now(), excludes: [] };
+            var ignored = function (url) {
+                url = String(url || '');
+                return t.excludes.some(function (e) { return url.indexOf(e) >= 0; });
+            };
+            var begin = function (url) {
+                if (ignored(url)) {
+                    return false;
+                }
+                t.inflight++;
+                t.last = now();
+                return true;
+            };
+            var end = function () {
+                t.inflight = Math.max(0, t.inflight - 1);
+                t.last = now();
+            };
+            if (window.fetch) {
+                var originalFetch = window.fetch;
+                window.fetch = function (input) {
+                    var tracked = begin(input && input.url ? input.url : input);
+                    var promise = originalFetch.apply(this, arguments);
+                    if (tracked) {
+                        promise.then(end, end);
+                    }
+                    return promise;
+                };
+            }
+            var originalOpen = XMLHttpRequest.prototype.open;
+            var originalSend = XMLHttpRequest.prototype.send;
+            XMLHttpRequest.prototype.open = function (method, url) {
+                this.__aemItUrl = url;
+                return originalOpen.apply(this, arguments);
+            };
+            XMLHttpRequest.prototype.send = function () {
+                var tracked = begin(this.__aemItUrl);
+                if (tracked) {
+                    this.addEventListener('loadend', end);
+                }
+                try {
+                    return originalSend.apply(this, arguments);
+                } catch (e) {
+                    if (tracked) {
+                        this.removeEventListener('loadend', end);
+                        end();
+                    }
+                    throw e;
+                }
+            };
+            if (window.PerformanceObserver) {
+                try {
+                    new PerformanceObserver(function (list) {
+                        if (list.getEntries().some(function (e) { return !ignored(e.name); })) {
+                            t.last = now();
+                        }
+                    }).observe({ entryTypes: ['resource'] });
+                } catch (e) {
+                    // resource timing not observable
+                }
+            }
+        }
+        t.excludes = excludes || [];
+        return t;
+    };
+
+    // Element predicates called as fn(el, args), see BrowserCondition.
+    var predicates = {
+        visible: function (el) {
+            return isVisible(el);
+        },
+        hidden: function (el) {
+            return !isVisible(el);
+        },
+        exist: function (el) {
+            return el.isConnected;
+        },
+        enabled: function (el) {
+            return el.isConnected && !el.matches(':disabled');
+        },
+        disabled: function (el) {
+            return el.isConnected && el.matches(':disabled');
+        },
+        cssClass: function (el, args) {
+            return el.classList.contains(args[0]);
+        },
+        noCssClass: function (el, args) {
+            return !el.classList.contains(args[0]);
+        },
+        attribute: function (el, args) {
+            return el.hasAttribute(args[0]);
+        },
+        attributeValue: function (el, args) {
+            return el.getAttribute(args[0]) === args[1];
+        },
+        text: function (el, args) {
+            return normalizeText(el.innerText).indexOf(normalizeText(args[0])) >= 0;
+        }
+    };
+
+    var fulfills = function (el, predicate, args) {
+        try {
+            return !!predicates[predicate](el, args);
+        } catch (e) {
+            return false;
+        }
+    };
+
+    // Readiness checks called as fn(state, args), see ReadyCondition.
+    var readyChecks = {
+        documentComplete: function () {
+            return document.readyState === 'complete';
+        },
+        networkIdle: function (state, args) {
+            var t = networkTracker(args[0]);
+            return t.inflight === 0 && now() - t.last >= args[1];
+        },
+        domIdle: function (state, args) {
+            if (!state.observer) {
+                state.last = now();
+                state.observer = new MutationObserver(function () { state.last = now(); });
+                state.observer.observe(document.documentElement, MUTATIONS);
+                state.dispose = function () { state.observer.disconnect(); };
+            }
+            return now() - state.last >= args[0];
+        },
+        coralReady: function (state, args) {
+            if (!(window.Coral && window.Coral.commons && window.Coral.commons.ready)) {
+                return false;
+            }
+            if (!state.requested) {
+                state.requested = true;
+                window.Coral.commons.ready(querySelector(args[0]) || document.body, function () { state.ready = true; });
+            }
+            return state.ready === true;
+        },
+        graniteAuthorPageInfo: function () {
+            var ns = window.Granite && window.Granite.author;
+            return !!(ns && ns.pageInfo);
+        },
+        frameLoaded: function (state, args) {
+            var frame = querySelector(args[0]);
+            if (!frame) {
+                return true;
+            }
+            try {
+                var doc = frame.contentDocument;
+                return !doc || (doc.readyState === 'complete'
+                    && (doc.location.href !== 'about:blank' || !frame.getAttribute('src')));
+            } catch (e) {
+                return true;
+            }
+        }
+    };
+
+    var fn = {};
+
+    // Resolves true when no request is in-flight since the quiet window, false when the budget is exhausted.
+    fn.networkIdle = function (excludes, quiet, budget) {
+        var t = networkTracker(excludes);
+        var start = now();
+        return new Promise(function (resolve) {
+            (function check() {
+                var current = now();
+                if (t.inflight === 0 && current - t.last >= quiet) {
+                    resolve(true);
+                } else if (current - start >= budget) {
+                    resolve(false);
+                } else {
+                    setTimeout(check, t.inflight === 0 ? Math.max(10, quiet - (current - t.last)) : Math.min(quiet, 50));
+                }
+            })();
+        });
+    };
+
+    // Resolves true when the subtree matching the selector (the document by default) didn't change during the quiet window.
+    fn.domIdle = function (selector, quiet, budget) {
+        var root = querySelector(selector) || document.documentElement;
+        var start = now(), last = start;
+        var observer = new MutationObserver(function () { last = now(); });
+        observer.observe(root, MUTATIONS);
+        return new Promise(function (resolve) {
+            (function check() {
+                var current = now();
+                if (current - last >= quiet) {
+                    observer.disconnect();
+                    resolve(true);
+                } else if (current - start >= budget) {
+                    observer.disconnect();
+                    resolve(false);
+                } else {
+                    setTimeout(check, Math.max(10, quiet - (current - last)));
+                }
+            })();
+        });
+    };
+
+    // Resolves true when the element has no running finite animation/transition and its bounding rect, opacity and
+    // transform are unchanged over consecutive animation frames.
+    fn.animationFinished = function (el, budget) {
+        var start = now(), previous = null, stableFrames = 0;
+        var onEnd = function () { stableFrames = 0; };
+        var isRunning = function (a) {
+            var timing = a.effect && a.effect.getComputedTiming ? a.effect.getComputedTiming() : {};
+            return (a.playState === 'running' || a.pending) && timing.iterations !== Infinity;
+        };
+        el.addEventListener('transitionend', onEnd, true);
+        el.addEventListener('animationend', onEnd, true);
+        return new Promise(function (resolve) {
+            var finish = function (result) {
+                el.removeEventListener('transitionend', onEnd, true);
+                el.removeEventListener('animationend', onEnd, true);
+                resolve(result);
+            };
+            (function frame() {
+                if (!el.isConnected) {
+                    finish(true);
+                    return;
+                }
+                var running = el.getAnimations ? el.getAnimations({ subtree: true }).filter(isRunning).length : 0;
+                var rect = el.getBoundingClientRect(), style = window.getComputedStyle(el);
+                var current = [rect.left, rect.top, rect.width, rect.height, style.opacity, style.transform].join('|');
+                stableFrames = (running === 0 && current === previous) ? stableFrames + 1 : 0;
+                previous = current;
+                if (stableFrames >= 2) {
+                    finish(true);
+                } else if (now() - start >= budget) {
+                    finish(false);
+                } else {
+                    nextFrame(frame);
+                }
+            })();
+        });
+    };
+
+    fn.paintCount = function () {
+        return performance.getEntriesByType('paint').length;
+    };
+
+    fn.entriesCount = function (name) {
+        return performance.getEntriesByName(name).length;
+    };
+
+    // True if the element is the top most one at its top left position.
+    fn.isElementTopMost = function (selector) {
+        var element = querySelector(selector);
+        if (!element) {
+            return false;
+        }
+        var clientRect = element.getBoundingClientRect();
+        return element === document.elementFromPoint(clientRect.left, clientRect.top);
+    };
+
+    fn.coralAvailable = function () {
+        return !!(window.Coral && window.Coral.commons && window.Coral.commons.ready);
+    };
+
+    // Resolves once all the Coral components below the selector are initialized.
+    fn.coralReady = function (selector) {
+        return new Promise(function (resolve) {
+            window.Coral.commons.ready(querySelector(selector) || document.body, function () { resolve(true); });
+        });
+    };
+
+    // Custom readiness checks, registered once per document by id.
+    var customChecks = {};
+
+    // Registers a custom readiness check from the source of its function expression.
+    fn.defineCheck = function (id, source) {
+        customChecks[id] = new Function('return (' + source + ');')();
+        return true;
+    };
+
+    // Evaluates all the readiness checks together, builtin ones by name or registered custom ones by id, until they
+    // are all fulfilled or the budget is exhausted. Resolves { ready, pending }, or { ready: false, undefinedChecks }
+    // listing the ids of the custom checks to register first.
+    fn.ready = function (specs, budget) {
+        var undefinedChecks = specs.filter(function (spec) { return !spec.check && !customChecks[spec.custom]; })
+            .map(function (spec) { return spec.custom; });
+        if (undefinedChecks.length > 0) {
+            return { ready: false, undefinedChecks: undefinedChecks };
+        }
+        var checks = specs.map(function (spec) {
+            return spec.check ? readyChecks[spec.check] : customChecks[spec.custom];
+        });
+        var states = checks.map(function () { return {}; });
+        var start = now();
+        return new Promise(function (resolve) {
+            var finish = function (result) {
+                states.forEach(function (state) {
+                    if (state.dispose) {
+                        state.dispose();
+                    }
+                });
+                resolve(result);
+            };
+            (function tick() {
+                Promise.all(checks.map(function (check, i) {
+                    try {
+                        return Promise.resolve(check(states[i], specs[i].args)).catch(function () { return false; });
+                    } catch (e) {
+                        return false;
+                    }
+                })).then(function (results) {
+                    var pending = specs.filter(function (spec, i) { return !results[i]; })
+                        .map(function (spec) { return spec.name; });
+                    if (pending.length === 0) {
+                        finish({ ready: true, pending: pending });
+                    } else if (now() - start >= budget) {
+                        finish({ ready: false, pending: pending });
+                    } else {
+                        setTimeout(tick, 25);
+                    }
+                });
+            })();
+        });
+    };
+
+    // Evaluates the predicate on every DOM mutation (plus a slow safety poll for style-only changes). Resolves true once
+    // fulfilled, 'detached' if the element is removed from the document, false after the timeout.
+    fn.waitCondition = function (el, predicate, args, timeout) {
+        return new Promise(function (resolve) {
+            var finished = false, observer = null, timer = null, poll = null;
+            var finish = function (result) {
+                finished = true;
+                if (observer) {
+                    observer.disconnect();
+                }
+                clearTimeout(timer);
+                clearInterval(poll);
+                resolve(result);
+            };
+            var evaluate = function () {
+                if (finished) {
+                    return;
+                }
+                if (fulfills(el, predicate, args)) {
+                    finish(true);
+                } else if (!el.isConnected) {
+                    finish('detached');
+                }
+            };
+            evaluate();
+            if (!finished) {
+                observer = new MutationObserver(evaluate);
+                observer.observe(document.documentElement, MUTATIONS);
+                poll = setInterval(evaluate, 100);
+                timer = setTimeout(function () { finish(false); }, timeout);
+            }
+        });
+    };
+
+    // Checks on each animation frame that the element is visible, enabled, has the same bounding box for two frames
+    // and receives the pointer events at its center. A covered element is reported after the obscured timeout.
+    // Resolves { actionable, reason }.
+    fn.actionable = function (el, timeout, obscuredTimeout) {
+        var start = now(), stableSince = null, previous = null, stableFrames = 0, scrolled = false;
+        var sameRect = function (a, b) {
+            return !!b && a.left === b.left && a.top === b.top && a.width === b.width && a.height === b.height;
+        };
+        return new Promise(function (resolve) {
+            (function check() {
+                var reason = null;
+                if (!el.isConnected) {
+                    reason = 'detached';
+                } else if (!isVisible(el)) {
+                    reason = 'not visible';
+                } else if (el.matches(':disabled')) {
+                    reason = 'disabled';
+                } else {
+                    var rect = el.getBoundingClientRect();
+                    stableFrames = sameRect(rect, previous) ? stableFrames + 1 : 0;
+                    previous = rect;
+                    var x = rect.left + rect.width / 2, y = rect.top + rect.height / 2;
+                    var inViewport = x >= 0 && y >= 0 && x < window.innerWidth && y < window.innerHeight;
+                    if (!inViewport && !scrolled) {
+                        scrolled = true;
+                        el.scrollIntoView({ block: 'center', inline: 'center' });
+                        reason = 'scrolling';
+                    } else if (stableFrames < 2) {
+                        reason = 'moving';
+                        stableSince = null;
+                    } else if (inViewport) {
+                        var hit = document.elementFromPoint(x, y);
+                        if (!hit || (hit !== el && !el.contains(hit))) {
+                            reason = 'obscured';
+                            stableSince = stableSince === null ? now() : stableSince;
+                        }
+                    }
+                }
+                if (reason === null) {
+                    resolve({ actionable: true, reason: null });
+                } else if (reason === 'detached' || now() - start >= timeout
+                    || (reason === 'obscured' && now() - stableSince >= obscuredTimeout)) {
+                    resolve({ actionable: false, reason: reason });
+                } else {
+                    nextFrame(check);
+                }
+            })();
+        });
+    };
+
+    // Starts watching the DOM right before a click made by the driver, the reaction is then read by fn.clickReaction.
+    fn.clickArm = function () {
+        var watch = window.__aemItClick;
+        if (watch) {
+            watch.observer.disconnect();
+            document.removeEventListener('mousedown', watch.press, true);
+        }
+        watch = window.__aemItClick = { clickedAt: now(), lastMutation: 0, reaction: -1 };
+        // the reaction is timed from the press of the driver click, once received
+        watch.press = function () {
+            watch.clickedAt = now();
+            watch.lastMutation = 0;
+            watch.reaction = -1;
+            document.removeEventListener('mousedown', watch.press, true);
+        };
+        document.addEventListener('mousedown', watch.press, true);
+        watch.observer = new MutationObserver(function () {
+            watch.lastMutation = now();
+            if (watch.reaction < 0) {
+                watch.reaction = watch.lastMutation - watch.clickedAt;
+            }
+        });
+        watch.observer.observe(document.documentElement, MUTATIONS);
+        return true;
+    };
+
+    // Watches the reaction to the click armed by fn.clickArm: 'fulfilled' as soon as the predicate is fulfilled on the
+    // element, 'retry' when nothing changed during the reaction window after the click or the DOM got quiet again
+    // without fulfilling the predicate, 'detached' or 'timeout'. Resolves { status, reaction }.
+    fn.clickReaction = function (el, predicate, args, reactionWindow, quietWindow, timeout) {
+        var watch = window.__aemItClick || { clickedAt: now(), lastMutation: 0, reaction: -1 };
+        var start = now();
+        return new Promise(function (resolve) {
+            var finished = false, poll = null;
+            var finish = function (status) {
+                finished = true;
+                clearInterval(poll);
+                if (watch.observer) {
+                    watch.observer.disconnect();
+                    document.removeEventListener('mousedown', watch.press, true);
+                }
+                window.__aemItClick = null;
+                resolve({ status: status, reaction: watch.reaction });
+            };
+            var check = function () {
+                if (finished) {
+                    return;
+                }
+                var current = now();
+                if (fulfills(el, predicate, args)) {
+                    finish('fulfilled');
+                } else if (!el.isConnected) {
+                    finish('detached');
+                } else if (current - start >= timeout) {
+                    finish('timeout');
+                } else if (watch.lastMutation ? current - watch.lastMutation >= quietWindow
+                        : current - watch.clickedAt >= reactionWindow) {
+                    finish('retry');
+                }
+            };
+            check();
+            if (!finished) {
+                poll = setInterval(check, 25);
+            }
+        });
+    };
+
+    // Marks the current document with a token, optionally hooking history navigations of single page applications.
+    fn.navMark = function (trackHistory) {
+        var token = Date.now() + '-' + Math.random();
+        window.__aemItNav = { token: token, history: 0 };
+        if (trackHistory && !window.__aemItHistoryHooked) {
+            window.__aemItHistoryHooked = true;
+            var count = function () {
+                if (window.__aemItNav) {
+                    window.__aemItNav.history++;
+                }
+            };
+            var pushState = window.history.pushState;
+            window.history.pushState = function () {
+                var result = pushState.apply(this, arguments);
+                count();
+                return result;
+            };
+            window.addEventListener('popstate', count);
+        }
+        return { token: token, timeOrigin: performance.timeOrigin || performance.timing.navigationStart };
+    };
+
+    // Waits for a new document (other token or time origin) reaching the load state, or a history navigation.
+    // Resolves { navigated, type }, navigated being null when the budget is exhausted.
+    fn.navWait = function (token, timeOrigin, trackHistory, loadState, budget) {
+        var start = Date.now();
+        return new Promise(function (resolve) {
+            (function check() {
+                var nav = window.__aemItNav;
+                var origin = performance.timeOrigin || performance.timing.navigationStart;
+                if (!nav || nav.token !== token || origin !== timeOrigin) {
+                    if (STATES.indexOf(document.readyState) >= STATES.indexOf(loadState)) {
+                        var entries = performance.getEntriesByType ? performance.getEntriesByType('navigation') : [];
+                        resolve({ navigated: 'document', type: entries.length ? entries[0].type : null });
+                        return;
+                    }
+                } else if (trackHistory && nav.history > 0) {
+                    resolve({ navigated: 'history', type: 'history' });
+                    return;
+                }
+                if (Date.now() - start >= budget) {
+                    resolve({ navigated: null });
+                } else {
+                    setTimeout(check, 25);
+                }
+            })();
+        });
+    };
+
+    var rectOf = function (el) {
+        var rect = el.getBoundingClientRect();
+        return { x: rect.left, y: rect.top, width: rect.width, height: rect.height };
+    };
+
+    // Serializable value of a snapshot field, objects other than rects are not returned.
+    var readField = function (el, field) {
+        switch (field.kind) {
+            case 'tag':
+                return el.tagName.toLowerCase();
+            case 'text':
+                return isVisible(el) ? (el.innerText || '').trim() : '';
+            case 'visible':
+                return isVisible(el);
+            case 'rect':
+                return rectOf(el);
+            case 'attribute':
+                return el.getAttribute(field.name);
+            case 'property':
+                var value = el[field.name];
+                return value === undefined || (value !== null && typeof value === 'object') ? null : value;
+            case 'descendant':
+                var child = el.querySelector(field.selector);
+                return child ? readField(child, field.field) : null;
+            case 'ancestor':
+                var ancestor = el.parentElement ? el.parentElement.closest(field.selector) : null;
+                return ancestor ? readField(ancestor, field.field) : null;
+            default:
+                throw new Error('Unknown snapshot field ' + field.kind);
+        }
+    };
+
+    fn.snapshot = function (root, selector, fields) {
+        return Array.prototype.map.call((root || document).querySelectorAll(selector), function (el) {
+            var values = {};
+            fields.forEach(function (field) {
+                values[field.key] = readField(el, field);
+            });
+            return { element: el, values: values };
+        });
+    };
+
+    // Visible text of the first element matching the selector, null when missing. Returns no element so it can be
+    // called from the parent document.
+    fn.textOf = function (selector) {
+        var el = document.querySelector(selector);
+        return el ? readField(el, { kind: 'text' }) : null;
+    };
+
+    // Generation of the editables, bumped by the editor events reloading or moving them, installed once per document.
+    var editablesTracker = function () {
+        var t = window.__aemItEditables;
+        if (!t) {
+            t = window.__aemItEditables = { id: Math.random().toString(36).slice(2), generation: 0, listening: false };
+        }
+        var $ = window.Granite && window.Granite.$;
+        if (!t.listening && $) {
+            $(document).on('cq-editables-loaded cq-editables-updated cq-overlays-repositioned', function () {
+                t.generation++;
+            });
+            t.listening = true;
+        }
+        return t;
+    };
+
+    // Index of Granite.author.editables, only the version is returned when the known version is still current.
+    fn.editableIndex = function (knownVersion) {
+        var t = editablesTracker();
+        var editables = (window.Granite && window.Granite.author && window.Granite.author.editables) || [];
+        var version = t.id + ':' + t.generation + ':' + editables.length;
+        if (version === knownVersion) {
+            return { version: version };
+        }
+        var entries = [];
+        var byPath = {};
+        Array.prototype.forEach.call(editables, function (editable) {
+            var path = editable.path;
+            var overlay = editable.overlay && editable.overlay.dom ? editable.overlay.dom[0] : null;
+            var entry = {
+                path: path,
+                resourceType: editable.type || null,
+                parentPath: typeof editable.getParentPath === 'function'
+                    ? editable.getParentPath() : path.substring(0, path.lastIndexOf('/')),
+                childPaths: [],
+                overlayType: overlay ? overlay.getAttribute('data-type') : null,
+                overlay: overlay && overlay.isConnected ? overlay : null,
+                rect: overlay && overlay.isConnected ? rectOf(overlay) : null
+            };
+            byPath[path] = entry;
+            entries.push(entry);
+        });
+        entries.forEach(function (entry) {
+            var parent = byPath[entry.parentPath];
+            if (parent) {
+                parent.childPaths.push(entry.path);
+            }
+        });
+        return { version: version, editables: entries };
+    };
+
+    // Select the editable and open its toolbar like a click on its overlay, false when the author API is unavailable.
+    fn.openEditableToolbar = function (path) {
+        var author = window.Granite && window.Granite.author;
+        if (!author || !author.editables || !author.selection || !author.EditorFrame
+            || !author.EditorFrame.editableToolbar) {
+            return false;
+        }
+        var editable = author.editables.find(path)[0];
+        if (!editable) {
+            return false;
+        }
+        author.selection.deselectAll();
+        author.selection.select(editable);
+        author.EditorFrame.editableToolbar.open(editable);
+        return true;
+    };
+
+    // Activate the editor layer and resolve once the editor notified it, {activated: false} without layer manager.
+    fn.activateLayer = function (name, budget) {
+        var layerManager = window.Granite && window.Granite.author && window.Granite.author.layerManager;
+        var $ = window.Granite && window.Granite.$;
+        if (!layerManager || typeof layerManager.activateLayer !== 'function' || !$) {
+            return { activated: false, reason: 'unavailable' };
+        }
+        var current = function () {
+            return typeof layerManager.getCurrentLayerName === 'function' ? layerManager.getCurrentLayerName() : null;
+        };
+        if (current() === name) {
+            return { activated: true, reason: 'current' };
+        }
+        return new Promise(function (resolve) {
+            var timer;
+            var onActivated = function (event) {
+                if (event.layer === name) {
+                    done({ activated: true, reason: 'event' });
+                }
+            };
+            var done = function (result) {
+                clearTimeout(timer);
+                $(document).off('cq-layer-activated', onActivated);
+                resolve(result);
+            };
+            $(document).on('cq-layer-activated', onActivated);
+            timer = setTimeout(function () {
+                done({ activated: current() === name, reason: 'timeout' });
+            }, budget);
+            try {
+                layerManager.activateLayer(name);
+            } catch (e) {
+                done({ activated: false, reason: String(e && e.message ? e.message : e) });
+            }
+        });
+    };
+
+    // State of the first button matching each named selector in the root element, see ButtonState.
+    fn.buttonStates = function (rootSelector, selectors) {
+        var root = rootSelector ? querySelector(rootSelector) : document;
+        var states = {};
+        Object.keys(selectors).forEach(function (name) {
+            var el = root ? root.querySelector(selectors[name]) : null;
+            states[name] = {
+                present: !!el,
+                visible: !!el && isVisible(el),
+                enabled: !!el && !el.matches(':disabled')
+            };
+        });
+        return states;
+    };
+
+    // Refresh the editable, or the content frame when it is not an editable, until the child editable is found.
+    fn.refreshEditable = function (path, childPath, budget) {
+        var author = window.Granite && window.Granite.author;
+        if (!author || !author.editables) {
+            return { refreshed: false, reason: 'unavailable' };
+        }
+        var editable = author.editables.find(path)[0];
+        var refresh = author.edit && author.edit.EditableActions && author.edit.EditableActions.REFRESH;
+        var start;
+        if (editable && refresh) {
+            start = function () { return refresh.execute(editable); };
+        } else if (author.ContentFrame && typeof author.ContentFrame.reload === 'function') {
+            start = function () { return author.ContentFrame.reload(); };
+        } else {
+            return { refreshed: false, reason: 'unavailable' };
+        }
+        var deadline = now() + budget;
+        return new Promise(function (resolve) {
+            var check = function () {
+                if (author.editables.find(childPath).length > 0) {
+                    resolve({ refreshed: true });
+                } else if (now() >= deadline) {
+                    resolve({ refreshed: false, reason: 'timeout' });
+                } else {
+                    setTimeout(check, 25);
+                }
+            };
+            Promise.resolve(start()).then(check, function (e) {
+                resolve({ refreshed: false, reason: String(e && e.message ? e.message : e) });
+            });
+        });
+    };
+
+    // Apply a change to an upgraded Coral component, then trigger a change event unless the component did, either
+    // synchronously or in a microtask queued by the change.
+    var coralChange = function (el, change) {
+        var fired = false;
+        var listener = function () { fired = true; };
+        el.addEventListener('change', listener);
+        try {
+            change();
+        } catch (e) {
+            el.removeEventListener('change', listener);
+            throw e;
+        }
+        Promise.resolve().then(function () {
+            el.removeEventListener('change', listener);
+            if (!fired) {
+                el.trigger('change');
+            }
+        });
+    };
+
+    // Index of the first label containing the key, ignoring case and whitespaces like Condition.text. When several
+    // labels contain it, an exact label wins over the first one. -1 when none matches.
+    var indexOfLabel = function (labels, key) {
+        var expected = normalizeText(key);
+        var normalized = labels.map(normalizeText);
+        var index = normalized.indexOf(expected);
+        return index >= 0 ? index : normalized.findIndex(function (label) { return label.indexOf(expected) >= 0; });
+    };
+
+    var isCoral = function (el) {
+        return !!el && typeof el.trigger === 'function' && !!el.items;
+    };
+
+    // Select the item of a coral-select by value, label or index, false when the item or the Coral API is missing.
+    fn.coralSelect = function (el, by, key) {
+        if (!isCoral(el)) {
+            return false;
+        }
+        var items = el.items.getAll();
+        var item;
+        if (by === 'index') {
+            item = items[key];
+        } else if (by === 'label') {
+            item = items[indexOfLabel(items.map(function (i) {
+                return i.content ? i.content.textContent : i.textContent;
+            }), key)];
+        } else {
+            item = items.filter(function (i) { return i.value === key; })[0];
+        }
+        if (!item) {
+            return false;
+        }
+        if (!item.selected) {
+            coralChange(el, function () { item.selected = true; });
+        }
+        return true;
+    };
+
+    fn.coralCheck = function (el, checked) {
+        if (!el || typeof el.trigger !== 'function' || !('checked' in el)) {
+            return false;
+        }
+        if (el.checked !== checked) {
+            coralChange(el, function () { el.checked = checked; });
+        }
+        return true;
+    };
+
+    // Add an item to a coral-multifield like its add button, the item content is rendered from its template.
+    fn.coralMultifieldAdd = function (el) {
+        if (!isCoral(el)) {
+            return false;
+        }
+        coralChange(el, function () { el.items.add(document.createElement('coral-multifield-item')); });
+        return true;
+    };
+
+    var setInputValue = function (el, value) {
+        el.value = value;
+        el.dispatchEvent(new Event('input', { bubbles: true }));
+        el.dispatchEvent(new Event('change', { bubbles: true }));
+    };
+
+    // Set the values of the fields of a coral-multifield, adding or removing items, once the items are rendered.
+    var fillMultifield = function (multifield, name, values, deadline) {
+        if (!isCoral(multifield)) {
+            return { status: 'failed', reason: 'multifield not upgraded' };
+        }
+        var items = function () { return multifield.items.getAll(); };
+        for (var added = items().length; added < values.length; added++) {
+            multifield.items.add(document.createElement('coral-multifield-item'));
+        }
+        while (items().length > values.length) {
+            multifield.items.remove(items()[items().length - 1]);
+        }
+        return new Promise(function (resolve) {
+            (function check() {
+                var fields = items().map(function (item) { return item.querySelector('[name="' + name + '"]'); });
+                if (fields.every(Boolean)) {
+                    fields.forEach(function (field, i) { setInputValue(field, String(values[i])); });
+                    multifield.trigger('change');
+                    resolve({ status: 'set' });
+                } else if (now() >= deadline) {
+                    resolve({ status: 'failed', reason: 'multifield items not rendered' });
+                } else {
+                    setTimeout(check, 25);
+                }
+            })();
+        });
+    };
+
+    // Set the value of a named form field, or return the element to type into when it needs keystrokes.
+    var fillField = function (root, name, value, deadline) {
+        var escaped = name.replace(/["\\]/g, '\\$&');
+        var multifield = root.querySelector('coral-multifield[data-granite-coral-multifield-name="' + escaped + '"]');
+        if (multifield && Array.isArray(value)) {
+            return fillMultifield(multifield, escaped, value, deadline);
+        }
+        var el = root.querySelector('[name="' + escaped + '"]');
+        if (!el) {
+            return { status: 'missing' };
+        }
+        var tag = el.tagName.toLowerCase();
+        var richText = el.closest('.cq-RichText');
+        if (richText) {
+            var editable = richText.querySelector('[contenteditable]');
+            return editable ? { status: 'typing', target: editable, editable: true }
+                : { status: 'failed', reason: 'rich text not editable' };
+        }
+        if (tag === 'coral-checkbox' || tag === 'coral-switch' || (tag === 'input' && el.type === 'checkbox')) {
+            var checked = value === true || value === 'true';
+            if (el.checked !== checked) {
+                if (typeof el.trigger === 'function') {
+                    coralChange(el, function () { el.checked = checked; });
+                } else {
+                    el.checked = checked;
+                    el.dispatchEvent(new Event('change', { bubbles: true }));
+                }
+            }
+            return { status: 'set' };
+        }
+        if (tag === 'coral-select') {
+            return fn.coralSelect(el, 'value', String(value)) ? { status: 'set' }
+                : { status: 'failed', reason: 'no item ' + value };
+        }
+        if (tag === 'input' || tag === 'textarea') {
+            setInputValue(el, String(value));
+            return { status: 'set' };
+        }
+        // other custom elements with a value, i.e foundation-autocomplete
+        if (tag.indexOf('-') > 0 && 'value' in el) {
+            if (typeof el.trigger === 'function') {
+                coralChange(el, function () { el.value = String(value); });
+            } else {
+                setInputValue(el, String(value));
+            }
+            return { status: 'set' };
+        }
+        return { status: 'typing', target: el, editable: false };
+    };
+
+    // Select the whole content of a content editable element, so that typing replaces it.
+    fn.selectContents = function (el) {
+        el.focus();
+        var range = document.createRange();
+        range.selectNodeContents(el);
+        var selection = window.getSelection();
+        selection.removeAllRanges();
+        selection.addRange(range);
+    };
+
+    // Fill the named fields of the form in root, resolves the result of each field in order, see Dialog.fill.
+    fn.fillForm = function (root, fields, budget) {
+        var deadline = now() + budget;
+        return Promise.all(fields.map(function (field) {
+            return Promise.resolve().then(function () {
+                return fillField(root || document, field.name, field.value, deadline);
+            }).catch(function (e) {
+                return { status: 'failed', reason: String(e && e.message ? e.message : e) };
+            });
+        }));
+    };
+
+    // Item of a list, groups included, by value or by visible label as matched by indexOfLabel, hidden items being
+    // ignored for labels. The item is scrolled into view, null when not found.
+    fn.findListItem = function (root, itemSelector, by, key) {
+        var items = Array.prototype.slice.call((root || document).querySelectorAll(itemSelector));
+        var item;
+        if (by === 'value') {
+            item = items.filter(function (i) { return (i.value !== undefined ? i.value : i.getAttribute('value')) === key; })[0];
+        } else {
+            items = items.filter(isVisible);
+            item = items[indexOfLabel(items.map(function (i) { return i.innerText; }), key)];
+        }
+        if (!item) {
+            return null;
+        }
+        item.scrollIntoView({ block: 'nearest' });
+        return item;
+    };
+
+    // Range over the text offsets [start, end[ of the element.
+    var textRange = function (el, start, end) {
+        var range = document.createRange();
+        range.selectNodeContents(el);
+        var walker = document.createTreeWalker(el, NodeFilter.SHOW_TEXT);
+        var offset = 0;
+        var startSet = false;
+        for (var node = walker.nextNode(); node; node = walker.nextNode()) {
+            var length = node.nodeValue.length;
+            if (!startSet && start <= offset + length) {
+                range.setStart(node, start - offset);
+                startSet = true;
+            }
+            if (startSet && end <= offset + length) {
+                range.setEnd(node, end - offset);
+                break;
+            }
+            offset += length;
+        }
+        return range;
+    };
+
+    // Run rich text steps on the in-place editor of the element, commands go through the RTE kernel when available,
+    // or document.execCommand which fails on unsupported commands.
+    fn.rteSequence = function (el, steps) {
+        var jq = window.jQuery || window.$;
+        var rte = jq && jq(el).data ? jq(el).data('rteinstance') : null;
+        var kernel = rte && rte.editorKernel;
+        var selection = window.getSelection();
+        var select = function (range) {
+            selection.removeAllRanges();
+            selection.addRange(range);
+        };
+        el.focus();
+        steps.forEach(function (step) {
+            switch (step.op) {
+                case 'select':
+                    select(textRange(el, step.start, step.end));
+                    break;
+                case 'selectAll':
+                    var all = document.createRange();
+                    all.selectNodeContents(el);
+                    select(all);
+                    break;
+                case 'collapse':
+                    if (selection.rangeCount) {
+                        selection.collapseToEnd();
+                    }
+                    break;
+                case 'type':
+                    if (!document.execCommand('insertText', false, step.text)) {
+                        var range = selection.getRangeAt(0);
+                        range.deleteContents();
+                        range.insertNode(document.createTextNode(step.text));
+                        range.collapse(false);
+                        select(range);
+                    }
+                    break;
+                case 'html':
+                    el.innerHTML = step.html;
+                    break;
+                case 'command':
+                    if (kernel && typeof kernel.relayCmd === 'function') {
+                        kernel.relayCmd(step.command, step.value);
+                    } else if (!document.execCommand(step.execCommand || step.command, false, step.value)) {
+                        throw new Error('Rich text command ' + (step.execCommand || step.command) + ' not supported');
+                    }
+                    break;
+                default:
+                    throw new Error('Unknown rich text step ' + step.op);
+            }
+        });
+        return el.innerHTML;
+    };
+
+    // Center of the element in the viewport.
+    var centerOf = function (el) {
+        var rect = el.getBoundingClientRect();
+        return { x: rect.left + rect.width / 2, y: rect.top + rect.height / 2 };
+    };
+
+    // HTML5 drag and drop of a draggable source on target, dispatched in-page with a shared DataTransfer. The target
+    // accepts the drop by cancelling dragover. Resolves { mode: 'html5', started, dropped }.
+    var html5Drag = function (draggable, source, target) {
+        var dataTransfer = new DataTransfer();
+        var fire = function (el, type, point) {
+            return el.dispatchEvent(new DragEvent(type, {
+                bubbles: true, cancelable: true, composed: true, view: window,
+                clientX: point.x, clientY: point.y, screenX: window.screenX + point.x, screenY: window.screenY + point.y,
+                dataTransfer: dataTransfer
+            }));
+        };
+        var from = centerOf(source), to = centerOf(target);
+        if (!fire(draggable, 'dragstart', from)) {
+            fire(draggable, 'dragend', from);
+            return { mode: 'html5', started: false, dropped: false };
+        }
+        fire(draggable, 'drag', from);
+        var hit = document.elementFromPoint(to.x, to.y);
+        var dropTarget = hit && target.contains(hit) ? hit : target;
+        fire(dropTarget, 'dragenter', to);
+        var dropped = !fire(dropTarget, 'dragover', to);
+        if (dropped) {
+            fire(dropTarget, 'drop', to);
+        } else {
+            fire(dropTarget, 'dragleave', to);
+        }
+        fire(draggable, 'dragend', to);
+        return { mode: 'html5', started: true, dropped: dropped };
+    };
+
+    // Mouse based drag of a handle (i.e Coral DragAction) over target, moving in steps. The drop is only known to be
+    // done when the handle moved past the target in the document, as when reordering. Resolves { mode: 'mouse',
+    // started: true, dropped }.
+    var mouseDrag = function (source, target) {
+        var fire = function (el, type, point, buttons) {
+            var init = {
+                bubbles: true, cancelable: true, composed: true, view: window, button: 0, buttons: buttons,
+                clientX: point.x, clientY: point.y, screenX: window.screenX + point.x, screenY: window.screenY + point.y
+            };
+            if (typeof PointerEvent === 'function') {
+                init.pointerId = 1;
+                init.pointerType = 'mouse';
+                init.isPrimary = true;
+                el.dispatchEvent(new PointerEvent('pointer' + type, init));
+            }
+            el.dispatchEvent(new MouseEvent('mouse' + type, init));
+        };
+        var under = function (point) {
+            return document.elementFromPoint(point.x, point.y) || document.documentElement;
+        };
+        var before = source.compareDocumentPosition(target) & Node.DOCUMENT_POSITION_FOLLOWING;
+        var from = centerOf(source), to = centerOf(target), steps = 5;
+        fire(source, 'down', from, 1);
+        for (var i = 1; i <= steps; i++) {
+            var point = { x: from.x + (to.x - from.x) * i / steps, y: from.y + (to.y - from.y) * i / steps };
+            fire(under(point), 'move', point, 1);
+        }
+        fire(under(to), 'up', to, 0);
+        return new Promise(function (resolve) {
+            nextFrame(function () {
+                nextFrame(function () {
+                    var after = source.compareDocumentPosition(target) & Node.DOCUMENT_POSITION_FOLLOWING;
+                    resolve({ mode: 'mouse', started: true, dropped: source.isConnected && before !== after });
+                });
+            });
+        });
+    };
+
+    // Drag and drop of source on target: HTML5 drag events when the source is draggable, mouse events on mouse based
+    // handles when allowed, otherwise { mode: 'pointer' } to use the driver pointer actions.
+    fn.dragAndDrop = function (source, target, mouse) {
+        source.scrollIntoView({ block: 'nearest', inline: 'nearest' });
+        target.scrollIntoView({ block: 'nearest', inline: 'nearest' });
+        var draggable = source.closest('[draggable="true"]');
+        if (draggable && typeof DataTransfer === 'function' && typeof DragEvent === 'function') {
+            return html5Drag(draggable, source, target);
+        }
+        if (mouse && !draggable) {
+            return mouseDrag(source, target);
+        }
+        return { mode: 'pointer' };
+    };
+
+    fn.i18n = function (text) {
+        return window.Granite.I18n.get(text);
+    };
+
+    window.__aemIt = { version: version, fn: fn };
+})(arguments[0]);
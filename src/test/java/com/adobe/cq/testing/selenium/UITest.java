@@ -24,7 +24,11 @@ import com.adobe.cq.testing.selenium.pageobject.cq.sites.SitesPage;
 import com.adobe.cq.testing.selenium.pageobject.granite.LoginPage;
 import com.adobe.cq.testing.selenium.pageobject.granite.StartPage;
 import com.adobe.cq.testing.selenium.pagewidgets.BettyTitleBar;
+import com.adobe.cq.testing.selenium.pagewidgets.cq.EditableToolbar;
+import com.adobe.cq.testing.selenium.pagewidgets.cq.InlineEditor;
+import com.adobe.cq.testing.selenium.utils.FrameContext;
 import com.codeborne.selenide.Condition;
+import com.codeborne.selenide.Selenide;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -35,6 +39,9 @@ import org.mockserver.model.HttpRequest;
 import java.net.URI;
 
 import static com.adobe.cq.testing.selenium.TestConstants.DEFAULT_MOCKED_AEM_PORT;
+import static com.codeborne.selenide.Selenide.$$;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 @DisableTourConfig(includeDefault = false)
 public final class UITest extends UIAbstractTest {
@@ -78,4 +85,20 @@ public final class UITest extends UIAbstractTest {
         PageEditorPage editorPage = new PageEditorPage("/content/some/page");
         editorPage.open();
     }
+
+    @Test
+    @DisplayName("InlineEditor switches back to the default content after setting the text")
+    public void assertInlineEditorLeavesContentFrame() {
+        PageEditorPage editorPage = new PageEditorPage("/content/some/page");
+        editorPage.open();
+        Selenide.executeJavaScript("document.getElementById('ContentFrame').contentDocument.body.innerHTML = "
+            + "'<div class=\"text cq-Editable-dom\" contenteditable=\"true\"></div>';");
+        InlineEditor inlineEditor = new InlineEditor(new EditableToolbar(editorPage));
+
+        assertEquals("Frame text", inlineEditor.setTextContent("Frame text"));
+        assertNull(FrameContext.getCurrentFrame());
+        // the ContentFrame element is only found from the top document
+        assertEquals(1, $$("#ContentFrame").size());
+        assertEquals("Frame text", inlineEditor.getTextContent());
+    }
 }
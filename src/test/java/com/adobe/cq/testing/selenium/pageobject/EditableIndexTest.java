@@ -0,0 +1,151 @@
+/*
+ * Copyright 2021 Adobe Systems Incorporated
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.adobe.cq.testing.selenium.pageobject;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EditableIndexTest {
+
+    private static final String ROOT = "/content/page/jcr:content/root";
+    private static final String CONTAINER = ROOT + "/container";
+    private static final String TEXT = CONTAINER + "/text";
+    private static final String TITLE = CONTAINER + "/title";
+
+    private static WebElement overlay(final String path) {
+        return (WebElement) Proxy.newProxyInstance(EditableIndexTest.class.getClassLoader(),
+                new Class<?>[] {WebElement.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "toString":
+                            return "overlay " + path;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static Map<String, Object> editable(final String path, final String resourceType,
+                                                final String overlayType, final WebElement overlay,
+                                                final String... childPaths) {
+        final Map<String, Object> editable = new HashMap<>();
+        editable.put("path", path);
+        editable.put("resourceType", resourceType);
+        editable.put("parentPath", path.substring(0, path.lastIndexOf('/')));
+        editable.put("childPaths", new ArrayList<>(Arrays.asList(childPaths)));
+        editable.put("overlayType", overlayType);
+        editable.put("overlay", overlay);
+        if (overlay != null) {
+            final Map<String, Object> rect = new HashMap<>();
+            rect.put("x", 0L);
+            rect.put("y", 120.5);
+            rect.put("width", 800L);
+            rect.put("height", 40.2);
+            editable.put("rect", rect);
+        }
+        return editable;
+    }
+
+    private static Map<String, Object> result(final Map<String, Object>... editables) {
+        final Map<String, Object> result = new LinkedHashMap<>();
+        result.put("version", "1:0:" + editables.length);
+        result.put("editables", Arrays.asList(editables));
+        return result;
+    }
+
+    @Test
+    public void editablesAreIndexedByPath() {
+        final WebElement textOverlay = overlay(TEXT);
+        final EditableIndex index = EditableIndex.fromRuntime(result(
+                editable(CONTAINER, "wcm/foundation/components/responsivegrid", "Editable", overlay(CONTAINER),
+                        TEXT, TITLE),
+                editable(TEXT, "core/wcm/components/text/v2/text", "Editable", textOverlay),
+                editable(TITLE, "core/wcm/components/title/v2/title", null, null)));
+
+        assertEquals("1:0:3", index.getVersion());
+        assertEquals(3, index.size());
+        assertTrue(index.contains(TEXT));
+        assertFalse(index.contains(ROOT));
+        assertNull(index.get(ROOT));
+        assertEquals(Arrays.asList(CONTAINER, TEXT, TITLE), Arrays.asList(index.getEntries().stream()
+                .map(EditableIndex.Entry::getPath).toArray()));
+
+        final EditableIndex.Entry text = index.get(TEXT);
+        assertEquals("core/wcm/components/text/v2/text", text.getResourceType());
+        assertEquals(CONTAINER, text.getParentPath());
+        assertEquals("Editable", text.getOverlayType());
+        assertEquals(new Rectangle(0, 121, 40, 800), text.getRect());
+
+        final EditableIndex.Entry title = index.get(TITLE);
+        assertNull(title.getOverlayType());
+        assertNull(title.getRect());
+        assertNull(title.getOverlay());
+    }
+
+    @Test
+    public void childrenFollowTheEditorOrder() {
+        final EditableIndex index = EditableIndex.fromRuntime(result(
+                editable(CONTAINER, "wcm/foundation/components/responsivegrid", "Editable", null, TITLE, TEXT),
+                editable(TEXT, "core/wcm/components/text/v2/text", "Editable", null),
+                editable(TITLE, "core/wcm/components/title/v2/title", "Editable", null)));
+
+        assertEquals(Arrays.asList(TITLE, TEXT), index.get(CONTAINER).getChildPaths());
+        assertEquals(Arrays.asList(index.get(TITLE), index.get(TEXT)), index.getChildren(CONTAINER));
+        assertEquals(Collections.emptyList(), index.getChildren(TEXT));
+        assertEquals(Collections.emptyList(), index.getChildren(ROOT));
+    }
+
+    @Test
+    public void overlaysAreFilteredByType() {
+        final WebElement containerOverlay = overlay(CONTAINER);
+        final WebElement textOverlay = overlay(TEXT);
+        final WebElement titleOverlay = overlay(TITLE);
+        final EditableIndex index = EditableIndex.fromRuntime(result(
+                editable(CONTAINER, "wcm/foundation/components/responsivegrid", "Editable", containerOverlay,
+                        TEXT, TITLE),
+                editable(TEXT, "core/wcm/components/text/v2/text", "Inspectable", textOverlay),
+                editable(TITLE, "core/wcm/components/title/v2/title", "Editable", titleOverlay),
+                editable(ROOT + "/detached", "core/wcm/components/text/v2/text", "Editable", null)));
+
+        final List<WebElement> editables = index.getOverlays("Editable");
+        assertEquals(2, editables.size());
+        assertSame(containerOverlay, editables.get(0));
+        assertSame(titleOverlay, editables.get(1));
+        assertEquals(Collections.singletonList(textOverlay), index.getOverlays("Inspectable"));
+        assertTrue(index.getOverlays("Other").isEmpty());
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2021 Adobe Systems Incorporated
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.adobe.cq.testing.selenium.pagewidgets;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReadyConditionTest {
+
+    private static final String EVEN = "function (state, args) { return args[0] % 2 === 0; }";
+    private static final String ODD = "function (state, args) { return args[0] % 2 === 1; }";
+
+    @Test
+    public void builtinConditionsReferToRuntimeChecks() {
+        final List<Map<String, Object>> specs = ReadyCondition.toSpecs(Arrays.asList(
+                ReadyCondition.documentComplete(),
+                ReadyCondition.domIdle(200),
+                ReadyCondition.frameLoaded("#ContentFrame")));
+
+        assertEquals(3, specs.size());
+        assertEquals("documentComplete", specs.get(0).get("name"));
+        assertEquals("documentComplete", specs.get(0).get("check"));
+        assertEquals(Collections.emptyList(), specs.get(0).get("args"));
+        assertEquals("domIdle", specs.get(1).get("check"));
+        assertEquals(Collections.singletonList(200L), specs.get(1).get("args"));
+        assertEquals(Collections.singletonList("#ContentFrame"), specs.get(2).get("args"));
+        specs.forEach(spec -> assertFalse(spec.containsKey("custom")));
+    }
+
+    @Test
+    public void customConditionsReferToTheirCheck() {
+        final List<ReadyCondition> conditions = Arrays.asList(
+                ReadyCondition.custom("even", EVEN, 2),
+                ReadyCondition.documentComplete(),
+                ReadyCondition.custom("odd", ODD, 3));
+        final List<Map<String, Object>> specs = ReadyCondition.toSpecs(conditions);
+        final Map<String, String> checks = ReadyCondition.toCustomChecks(conditions);
+
+        assertEquals("even", specs.get(0).get("name"));
+        assertFalse(specs.get(0).containsKey("check"));
+        assertEquals(Collections.singletonList(2), specs.get(0).get("args"));
+        assertEquals(Arrays.asList(specs.get(0).get("custom"), specs.get(2).get("custom")),
+                Arrays.asList(checks.keySet().toArray()));
+        assertEquals(EVEN, checks.get(specs.get(0).get("custom")));
+        assertEquals(ODD, checks.get(specs.get(2).get("custom")));
+    }
+
+    @Test
+    public void sameFunctionIsSentOnce() {
+        final List<ReadyCondition> conditions = Arrays.asList(
+                ReadyCondition.custom("two", EVEN, 2),
+                ReadyCondition.custom("four", EVEN, 4),
+                ReadyCondition.custom("odd", ODD, 3));
+        final List<Map<String, Object>> specs = ReadyCondition.toSpecs(conditions);
+
+        assertEquals(specs.get(0).get("custom"), specs.get(1).get("custom"));
+        assertNotEquals(specs.get(0).get("custom"), specs.get(2).get("custom"));
+        assertEquals(2, ReadyCondition.toCustomChecks(conditions).size());
+        assertTrue(ReadyCondition.toCustomChecks(Collections.singletonList(ReadyCondition.documentComplete()))
+                .isEmpty());
+    }
+}
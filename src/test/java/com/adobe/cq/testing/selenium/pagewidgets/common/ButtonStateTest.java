@@ -0,0 +1,108 @@
+/*
+ * Copyright 2021 Adobe Systems Incorporated
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.adobe.cq.testing.selenium.pagewidgets.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ButtonStateTest {
+
+    private enum Action { EDIT, DELETE, COPY, PASTE }
+
+    private static Map<String, Boolean> state(final boolean present, final boolean visible, final boolean enabled) {
+        final Map<String, Boolean> state = new HashMap<>();
+        state.put("present", present);
+        state.put("visible", visible);
+        state.put("enabled", enabled);
+        return state;
+    }
+
+    @Test
+    public void statesAreReadForEachAction() {
+        final Map<String, Map<String, Boolean>> states = new HashMap<>();
+        states.put("EDIT", state(true, true, true));
+        states.put("DELETE", state(true, true, false));
+        states.put("COPY", state(true, false, true));
+        final EnumMap<Action, ButtonState> snapshot = ButtonState.fromRuntime(Action.class, states);
+
+        assertEquals(4, snapshot.size());
+        assertTrue(snapshot.get(Action.EDIT).isAvailable());
+        assertTrue(snapshot.get(Action.DELETE).isVisible());
+        assertFalse(snapshot.get(Action.DELETE).isEnabled());
+        assertFalse(snapshot.get(Action.DELETE).isAvailable());
+        assertTrue(snapshot.get(Action.COPY).isPresent());
+        assertFalse(snapshot.get(Action.COPY).isAvailable());
+        assertFalse(snapshot.get(Action.PASTE).isPresent());
+        assertEquals("visible enabled", snapshot.get(Action.EDIT).toString());
+        assertEquals("visible disabled", snapshot.get(Action.DELETE).toString());
+        assertEquals("hidden enabled", snapshot.get(Action.COPY).toString());
+        assertEquals("absent", snapshot.get(Action.PASTE).toString());
+    }
+
+    @Test
+    public void missingButtonsAreAbsent() {
+        final Map<String, Map<String, Boolean>> states = new HashMap<>();
+        states.put("EDIT", state(false, true, true));
+        final EnumMap<Action, ButtonState> snapshot = ButtonState.fromRuntime(Action.class, states);
+
+        assertFalse(snapshot.get(Action.EDIT).isPresent());
+        assertFalse(snapshot.get(Action.EDIT).isAvailable());
+        assertEquals(snapshot.get(Action.EDIT), snapshot.get(Action.PASTE));
+    }
+
+    @Test
+    public void missingFlagsAreFalse() {
+        final Map<String, Map<String, Boolean>> states = new HashMap<>();
+        states.put("EDIT", new HashMap<>());
+        final Map<String, Boolean> hidden = new HashMap<>();
+        hidden.put("present", true);
+        hidden.put("visible", null);
+        states.put("DELETE", hidden);
+        final EnumMap<Action, ButtonState> snapshot = ButtonState.fromRuntime(Action.class, states);
+
+        assertFalse(snapshot.get(Action.EDIT).isPresent());
+        assertTrue(snapshot.get(Action.DELETE).isPresent());
+        assertFalse(snapshot.get(Action.DELETE).isVisible());
+        assertFalse(snapshot.get(Action.DELETE).isEnabled());
+    }
+
+    @Test
+    public void statesAreComparedByValue() {
+        final Map<String, Map<String, Boolean>> before = new HashMap<>();
+        before.put("EDIT", state(true, true, true));
+        before.put("DELETE", state(true, true, false));
+        final Map<String, Map<String, Boolean>> after = new HashMap<>(before);
+        after.put("DELETE", state(true, true, true));
+
+        final EnumMap<Action, ButtonState> first = ButtonState.fromRuntime(Action.class, before);
+        final EnumMap<Action, ButtonState> second = ButtonState.fromRuntime(Action.class, after);
+        assertEquals(first.get(Action.EDIT), second.get(Action.EDIT));
+        assertEquals(first.get(Action.EDIT).hashCode(), second.get(Action.EDIT).hashCode());
+        assertNotEquals(first.get(Action.DELETE), second.get(Action.DELETE));
+        assertNotEquals(first, second);
+        assertEquals(first, ButtonState.fromRuntime(Action.class, before));
+    }
+}
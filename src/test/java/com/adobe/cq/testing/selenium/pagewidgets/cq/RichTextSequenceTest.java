@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021 Adobe Systems Incorporated
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.adobe.cq.testing.selenium.pagewidgets.cq;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RichTextSequenceTest {
+
+    private static RichTextSequence sequence() {
+        return new RichTextSequence("ContentFrame", ".text");
+    }
+
+    @Test
+    public void stepsAreSentInOrder() {
+        final List<Map<String, Object>> steps = sequence()
+                .html("<p>Hello world</p>")
+                .select(0, 5)
+                .apply(RichTextToolbar.Action.FORMAT_BOLD)
+                .collapse()
+                .type("!")
+                .selectAll()
+                .getSteps();
+
+        assertEquals(6, steps.size());
+        assertEquals("html", steps.get(0).get("op"));
+        assertEquals("<p>Hello world</p>", steps.get(0).get("html"));
+        assertEquals("select", steps.get(1).get("op"));
+        assertEquals(0, steps.get(1).get("start"));
+        assertEquals(5, steps.get(1).get("end"));
+        assertEquals("command", steps.get(2).get("op"));
+        assertEquals("bold", steps.get(2).get("command"));
+        assertEquals("bold", steps.get(2).get("execCommand"));
+        assertEquals("collapse", steps.get(3).get("op"));
+        assertEquals("!", steps.get(4).get("text"));
+        assertEquals("selectAll", steps.get(5).get("op"));
+    }
+
+    @Test
+    public void actionsWithoutCommandAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> sequence().apply(RichTextToolbar.Action.LINK));
+        assertThrows(IllegalArgumentException.class, () -> sequence().apply(RichTextToolbar.Action.FORMAT));
+    }
+
+    @Test
+    public void actionsMapToCommands() {
+        assertEquals("justifyjustify", RichTextToolbar.Action.JUSTIFY_JUSTIFY.getCommand());
+        assertEquals("justifyFull", RichTextToolbar.Action.JUSTIFY_JUSTIFY.getExecCommand());
+        assertEquals("justifycenter", RichTextToolbar.Action.JUSTIFY_CENTER.getExecCommand());
+        assertEquals("insertunorderedlist", RichTextToolbar.Action.LISTS_UNORDERED.getCommand());
+        assertEquals("insertorderedlist", RichTextToolbar.Action.LISTS_ORDERED.getCommand());
+        assertEquals("indent", RichTextToolbar.Action.LISTS_INDENT.getCommand());
+        assertEquals("unlink", RichTextToolbar.Action.UNLINK.getCommand());
+        assertNull(RichTextToolbar.Action.SAVE.getCommand());
+        assertNull(RichTextToolbar.Action.LINK.getExecCommand());
+    }
+}
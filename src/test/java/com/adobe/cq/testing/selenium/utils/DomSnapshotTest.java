@@ -0,0 +1,93 @@
+/*
+ * Copyright 2021 Adobe Systems Incorporated
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.adobe.cq.testing.selenium.utils;
+
+import com.adobe.cq.testing.selenium.utils.DomSnapshot.Field;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.Rectangle;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DomSnapshotTest {
+
+    @Test
+    public void fieldsAreIdentifiedByKey() {
+        assertEquals("@data-path", Field.data("path").toString());
+        assertEquals(Field.data("path"), Field.attribute("data-path"));
+        assertEquals(Field.data("path").hashCode(), Field.attribute("data-path").hashCode());
+        assertEquals(".checked", Field.property("checked").toString());
+        assertNotEquals(Field.attribute("value"), Field.property("value"));
+        assertEquals("coral-icon @icon", Field.descendant("coral-icon", Field.attribute("icon")).toString());
+        assertEquals("^form @action", Field.ancestor("form", Field.attribute("action")).toString());
+        assertNotEquals(Field.descendant("form", Field.text()), Field.ancestor("form", Field.text()));
+    }
+
+    @Test
+    public void fieldSpecsAreNested() {
+        final Map<String, Object> spec = Field.ancestor("coral-dialog", Field.descendant("h2", Field.text())).toSpec();
+
+        assertEquals("^coral-dialog h2 text", spec.get("key"));
+        assertEquals("ancestor", spec.get("kind"));
+        assertEquals("coral-dialog", spec.get("selector"));
+        assertNull(spec.get("name"));
+        final Map<String, Object> descendant = (Map<String, Object>) spec.get("field");
+        assertEquals("descendant", descendant.get("kind"));
+        assertEquals("h2", descendant.get("selector"));
+        final Map<String, Object> text = (Map<String, Object>) descendant.get("field");
+        assertEquals("text", text.get("kind"));
+        assertNull(text.get("field"));
+
+        final Map<String, Object> attribute = Field.data("type").toSpec();
+        assertEquals("attribute", attribute.get("kind"));
+        assertEquals("data-type", attribute.get("name"));
+    }
+
+    @Test
+    public void valuesAreReadByField() {
+        final Map<String, Object> rect = new HashMap<>();
+        rect.put("x", 10.4);
+        rect.put("y", 20.6);
+        rect.put("width", 100L);
+        rect.put("height", 50L);
+        final Map<String, Object> values = new LinkedHashMap<>();
+        values.put("@data-path", "/content/page/jcr:content/text");
+        values.put(".checked", true);
+        values.put(".value", 42L);
+        values.put("rect", rect);
+        values.put("text", null);
+        final DomSnapshot snapshot = new DomSnapshot(3, null, values);
+
+        assertEquals(3, snapshot.getIndex());
+        assertEquals("/content/page/jcr:content/text", snapshot.getString(Field.data("path")));
+        assertTrue(snapshot.is(Field.property("checked")));
+        assertFalse(snapshot.is(Field.property("value")));
+        assertEquals("42", snapshot.getString(Field.property("value")));
+        assertEquals(new Rectangle(10, 21, 50, 100), snapshot.getRect(Field.rect()));
+        assertNull(snapshot.getString(Field.text()));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.get(Field.tag()));
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2021 Adobe Systems Incorporated
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.adobe.cq.testing.selenium.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Clock advancing on each sleep, recording the sleeps.
+ */
+final class FakeClock implements WaitScheduler.Clock {
+
+    final List<Long> sleeps = new ArrayList<>();
+    long now = 1000;
+
+    @Override
+    public long millis() {
+        return now;
+    }
+
+    @Override
+    public void sleep(final long millis) {
+        sleeps.add(millis);
+        now += millis;
+    }
+}
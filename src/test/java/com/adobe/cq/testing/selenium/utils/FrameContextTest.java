@@ -0,0 +1,108 @@
+/*
+ * Copyright 2021 Adobe Systems Incorporated
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.adobe.cq.testing.selenium.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.NoSuchFrameException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FrameContextTest {
+
+    private final List<String> switches = new ArrayList<>();
+
+    @BeforeEach
+    public void recordSwitches() {
+        FrameContext.setSwitcher(new FrameContext.Switcher() {
+            @Override
+            public void enter(final String frame) {
+                if ("missing".equals(frame)) {
+                    throw new NoSuchFrameException(frame);
+                }
+                switches.add("enter " + frame);
+            }
+
+            @Override
+            public void leave() {
+                switches.add("leave");
+            }
+        });
+    }
+
+    @AfterEach
+    public void resetSwitcher() {
+        FrameContext.setSwitcher(null);
+    }
+
+    @Test
+    public void operationRunsInTheFrame() {
+        assertNull(FrameContext.getCurrentFrame());
+        assertEquals("ContentFrame", FrameContext.call("ContentFrame", FrameContext::getCurrentFrame));
+        assertNull(FrameContext.getCurrentFrame());
+        assertEquals(Arrays.asList("enter ContentFrame", "leave"), switches);
+    }
+
+    @Test
+    public void nestedOperationsSwitchOnce() {
+        FrameContext.run("ContentFrame", () -> {
+            FrameContext.run("ContentFrame", () -> switches.add("first"));
+            assertEquals("ContentFrame", FrameContext.getCurrentFrame());
+            FrameContext.run("ContentFrame", () -> switches.add("second"));
+        });
+        assertEquals(Arrays.asList("enter ContentFrame", "first", "second", "leave"), switches);
+    }
+
+    @Test
+    public void otherFrameCannotBeEnteredFromAFrame() {
+        assertThrows(IllegalStateException.class,
+                () -> FrameContext.run("ContentFrame", () -> FrameContext.run("OtherFrame", () -> { })));
+        assertNull(FrameContext.getCurrentFrame());
+        assertEquals(Arrays.asList("enter ContentFrame", "leave"), switches);
+
+        FrameContext.run("OtherFrame", () -> { });
+        assertEquals(Arrays.asList("enter ContentFrame", "leave", "enter OtherFrame", "leave"), switches);
+    }
+
+    @Test
+    public void failedOperationLeavesTheFrame() {
+        assertThrows(IllegalArgumentException.class, () -> FrameContext.run("ContentFrame", () -> {
+            throw new IllegalArgumentException("failed");
+        }));
+        assertNull(FrameContext.getCurrentFrame());
+        assertEquals(Arrays.asList("enter ContentFrame", "leave"), switches);
+    }
+
+    @Test
+    public void missingFrameIsNotEntered() {
+        assertThrows(NoSuchFrameException.class, () -> FrameContext.run("missing", () -> { }));
+        assertNull(FrameContext.getCurrentFrame());
+        assertEquals(Collections.emptyList(), switches);
+
+        FrameContext.run("ContentFrame", () -> { });
+        assertEquals(Arrays.asList("enter ContentFrame", "leave"), switches);
+    }
+}
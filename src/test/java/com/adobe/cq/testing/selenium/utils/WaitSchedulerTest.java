@@ -0,0 +1,104 @@
+/*
+ * Copyright 2021 Adobe Systems Incorporated
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.adobe.cq.testing.selenium.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.TimeoutException;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WaitSchedulerTest {
+
+    private FakeClock clock;
+
+    @BeforeEach
+    public void useFakeClock() {
+        clock = new FakeClock();
+        WaitScheduler.setClock(clock);
+    }
+
+    @AfterEach
+    public void resetHistory() {
+        WaitScheduler.setClock(null);
+        WaitScheduler.reset();
+    }
+
+    @Test
+    public void fulfilledConditionIsCheckedOnce() {
+        AtomicInteger polls = new AtomicInteger();
+        assertTrue(WaitScheduler.until("immediate", () -> polls.incrementAndGet() > 0, 1000));
+        assertEquals(1, polls.get());
+        assertTrue(clock.sleeps.isEmpty());
+    }
+
+    @Test
+    public void pollsBackOffUntilTimeout() {
+        AtomicInteger polls = new AtomicInteger();
+        assertFalse(WaitScheduler.until("never", () -> polls.incrementAndGet() < 0, 400));
+        // 25 + 50 + 100 + 200 ms intervals, the last one cut at the timeout
+        assertEquals(Arrays.asList(25L, 50L, 100L, 200L, 25L), clock.sleeps);
+        assertEquals(6, polls.get());
+    }
+
+    @Test
+    public void intervalsAreCappedAtMaxInterval() {
+        assertFalse(WaitScheduler.until("long", () -> false, 5000));
+        assertEquals(Arrays.asList(25L, 50L, 100L, 200L, 400L, 800L, 1000L, 1000L, 1000L, 425L), clock.sleeps);
+    }
+
+    @Test
+    public void notFoundCountsAsNotFulfilled() {
+        AtomicInteger polls = new AtomicInteger();
+        assertTrue(WaitScheduler.until("notFound", () -> {
+            if (polls.incrementAndGet() < 3) {
+                throw new NoSuchElementException("not yet");
+            }
+            return true;
+        }, 1000));
+        assertEquals(3, polls.get());
+    }
+
+    @Test
+    public void learnsSettleTime() {
+        final long start = clock.now;
+        assertTrue(WaitScheduler.until("settle", () -> clock.now - start >= 200, 1000));
+        // fulfilled at the poll after 25 + 50 + 100 + 200 ms
+        assertEquals(375d, WaitScheduler.getTypicalSettleTime("settle"));
+        assertEquals(0d, WaitScheduler.getTypicalSettleTime("unknown"));
+
+        clock.sleeps.clear();
+        final long restart = clock.now;
+        assertTrue(WaitScheduler.until("settle", () -> clock.now - restart >= 300, 1000));
+        // first poll delayed to 80% of the settle time
+        assertEquals(Arrays.asList(300L), clock.sleeps);
+        assertEquals(375d + 0.3 * (300d - 375d), WaitScheduler.getTypicalSettleTime("settle"), 0.001);
+    }
+
+    @Test
+    public void awaitThrowsOnTimeout() {
+        assertThrows(TimeoutException.class, () -> WaitScheduler.await("timeout", () -> false, 100));
+    }
+}
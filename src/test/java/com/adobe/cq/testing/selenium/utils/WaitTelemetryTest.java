@@ -0,0 +1,101 @@
+/*
+ * Copyright 2021 Adobe Systems Incorporated
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.adobe.cq.testing.selenium.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WaitTelemetryTest {
+
+    private FakeClock clock;
+
+    @BeforeEach
+    public void useFakeClock() {
+        clock = new FakeClock();
+        WaitTelemetry.setClock(clock);
+    }
+
+    @AfterEach
+    public void disable() {
+        WaitTelemetry.setClock(null);
+        WaitTelemetry.setEnabled(false);
+        WaitTelemetry.reset();
+    }
+
+    @Test
+    public void disabledTelemetryRecordsNothing() {
+        WaitTelemetry.record("wait", null, 100, 1, 0);
+        WaitTelemetry.end(WaitTelemetry.begin(), "outer", null, 1, 0);
+        assertTrue(WaitTelemetry.getStats().isEmpty());
+    }
+
+    @Test
+    public void nestedWaitsAreNotCountedTwice() {
+        WaitTelemetry.setEnabled(true);
+        final WaitTelemetry.Span outer = WaitTelemetry.begin();
+        clock.sleep(50);
+        final WaitTelemetry.Span inner = WaitTelemetry.begin();
+        WaitTelemetry.sleep("leaf", 300);
+        clock.sleep(20);
+        WaitTelemetry.end(inner, "inner", null, 1, 0);
+        clock.sleep(10);
+        WaitTelemetry.end(outer, "outer", null, 1, 0);
+
+        final List<WaitTelemetry.Stats> stats = WaitTelemetry.getStats();
+        assertEquals(3, stats.size());
+        assertEquals("leaf", stats.get(0).getType());
+        assertEquals(300, stats.get(0).getTotalTime());
+        // 380ms elapsed in the outer span, of which 320ms in the inner span, of which 300ms in the leaf wait
+        assertEquals("outer", stats.get(1).getType());
+        assertEquals(60, stats.get(1).getTotalTime());
+        assertEquals("inner", stats.get(2).getType());
+        assertEquals(20, stats.get(2).getTotalTime());
+    }
+
+    @Test
+    public void unfinishedInnerSpanIsDropped() {
+        WaitTelemetry.setEnabled(true);
+        final WaitTelemetry.Span outer = WaitTelemetry.begin();
+        WaitTelemetry.begin();
+        WaitTelemetry.end(outer, "outer", null, 1, 0);
+        WaitTelemetry.record("after", null, 50, 1, 0);
+
+        assertEquals(2, WaitTelemetry.getStats().size());
+        assertEquals(50, WaitTelemetry.getStats().get(0).getTotalTime());
+    }
+
+    @Test
+    public void waitsAreAggregatedByCallSite() {
+        WaitTelemetry.setEnabled(true);
+        for (int i = 0; i < 2; i++) {
+            WaitTelemetry.record("loop", "target", 10, 2, 1);
+        }
+        final WaitTelemetry.Stats stats = WaitTelemetry.getStats().get(0);
+        assertEquals(2, stats.getCalls());
+        assertEquals(20, stats.getTotalTime());
+        assertEquals(10, stats.getMaxTime());
+        assertEquals(4, stats.getPolls());
+        assertEquals(2, stats.getRetries());
+        assertTrue(stats.getCallSite().startsWith(WaitTelemetryTest.class.getName()));
+    }
+}